@@ -0,0 +1,50 @@
+plugins {
+	java
+	application
+	id("io.spring.dependency-management")
+}
+
+java {
+	toolchain {
+		languageVersion = JavaLanguageVersion.of(21)
+	}
+}
+
+repositories {
+	mavenCentral()
+}
+
+dependencyManagement {
+	imports {
+		mavenBom(org.springframework.boot.gradle.plugin.SpringBootPlugin.BOM_COORDINATES)
+	}
+}
+
+dependencies {
+	implementation(project(":"))
+	implementation("org.springframework.boot:spring-boot-starter")
+	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+	implementation("com.fasterxml.jackson.core:jackson-databind")
+	implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+	runtimeOnly("org.postgresql:postgresql")
+}
+
+application {
+	mainClass = "com.dashboard.api.loadtest.LoadTest"
+}
+
+tasks.named<JavaExec>("run") {
+	description = "Boots the API against the local database and drives mixed traffic at it."
+	workingDir = rootProject.projectDir
+	systemProperty("loadtest.output", layout.buildDirectory.dir("results").get().asFile.path)
+	systemProperties(project.properties.filterKeys { it.startsWith("loadtest.") })
+}
+
+tasks.register<JavaExec>("benchmarkThreadModes") {
+	description = "Compares throughput and p99 latency with platform and virtual request threads."
+	group = "verification"
+	classpath = sourceSets["main"].runtimeClasspath
+	mainClass = "com.dashboard.api.benchmark.ThreadModeBenchmark"
+	workingDir = rootProject.projectDir
+	systemProperties(project.properties.filterKeys { it.startsWith("benchmark.") })
+}
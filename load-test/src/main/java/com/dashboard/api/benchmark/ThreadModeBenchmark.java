@@ -0,0 +1,205 @@
+package com.dashboard.api.benchmark;
+
+import com.dashboard.api.ApiApplication;
+import com.dashboard.api.infrastructure.diagnostics.PinningMonitor;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares the throughput and latency of the API with request handling on platform threads and on
+ * virtual threads.
+ *
+ * <p>For each mode the application is started on a random port, against the database configured
+ * in {@code application.properties} (the {@code compose.yml} Postgres), and a fixed number of
+ * clients call one endpoint in a closed loop: a warm-up run is discarded, then a measured run
+ * reports requests per second and the p50, p99 and max latencies. Run it with {@code ./gradlew
+ * :load-test:benchmarkThreadModes -Pbenchmark.password=...}; the other {@code benchmark.*}
+ * properties are listed in {@link #main(String[])}.
+ */
+public final class ThreadModeBenchmark {
+
+  private ThreadModeBenchmark() {}
+
+  /** Settings of a benchmark run, read from the {@code benchmark.*} system properties. */
+  private record Settings(
+      int clients,
+      Duration warmup,
+      Duration duration,
+      String path,
+      String username,
+      String password) {
+
+    static Settings fromSystemProperties() {
+      String password = System.getProperty("benchmark.password");
+      if (password == null) {
+        throw new IllegalArgumentException("benchmark.password is required");
+      }
+      return new Settings(
+          Integer.getInteger("benchmark.clients", 400),
+          Duration.parse(System.getProperty("benchmark.warmup", "PT10S")),
+          Duration.parse(System.getProperty("benchmark.duration", "PT30S")),
+          System.getProperty("benchmark.path", "/server/getAll?limit=50"),
+          System.getProperty("benchmark.username", "admin"),
+          password);
+    }
+  }
+
+  /** Outcome of a measured run. */
+  private record Result(long requests, long errors, Duration elapsed, long[] latenciesNanos) {
+
+    double throughput() {
+      return requests / (elapsed.toNanos() / 1e9);
+    }
+
+    double percentileMillis(double percentile) {
+      if (latenciesNanos.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(percentile / 100 * latenciesNanos.length) - 1;
+      return latenciesNanos[Math.max(index, 0)] / 1e6;
+    }
+  }
+
+  /**
+   * Runs the benchmark in both thread modes and prints a comparison.
+   *
+   * <p>Recognized system properties: {@code benchmark.clients} (400), {@code benchmark.warmup}
+   * (PT10S), {@code benchmark.duration} (PT30S), {@code benchmark.path} ({@code
+   * /server/getAll?limit=50}), {@code benchmark.username} (admin) and {@code benchmark.password}.
+   *
+   * @param args unused
+   * @throws Exception if the application can't start or a client fails
+   */
+  public static void main(String[] args) throws Exception {
+    Settings settings = Settings.fromSystemProperties();
+    List<String> lines = new ArrayList<>();
+    lines.add(
+        String.format(
+            "%-10s %12s %10s %10s %10s %10s",
+            "mode", "req/s", "p50 ms", "p99 ms", "max ms", "errors"));
+
+    for (boolean virtualThreads : new boolean[] {false, true}) {
+      String mode = virtualThreads ? "virtual" : "platform";
+      try (ConfigurableApplicationContext app =
+          new SpringApplicationBuilder(ApiApplication.class)
+              .properties("server.port=0", "spring.threads.virtual.enabled=" + virtualThreads)
+              .run()) {
+        int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+        Result result = measure(URI.create("http://localhost:" + port), settings);
+        lines.add(
+            String.format(
+                "%-10s %12.1f %10.2f %10.2f %10.2f %10d",
+                mode,
+                result.throughput(),
+                result.percentileMillis(50),
+                result.percentileMillis(99),
+                result.percentileMillis(100),
+                result.errors()));
+        if (virtualThreads) {
+          System.out.println("Pinning: " + app.getBean(PinningMonitor.class).report());
+        }
+      }
+    }
+
+    System.out.printf(
+        "%d clients on %s, %s measured after %s warm-up%n",
+        settings.clients(), settings.path(), settings.duration(), settings.warmup());
+    lines.forEach(System.out::println);
+  }
+
+  private static Result measure(URI base, Settings settings) throws Exception {
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      HttpClient http =
+          HttpClient.newBuilder()
+              .executor(clients)
+              .connectTimeout(Duration.ofSeconds(10))
+              .version(HttpClient.Version.HTTP_1_1)
+              .build();
+      String cookie = login(http, base, settings);
+      HttpRequest request =
+          HttpRequest.newBuilder(base.resolve(settings.path()))
+              .header("Cookie", cookie)
+              .timeout(Duration.ofSeconds(30))
+              .GET()
+              .build();
+
+      run(http, request, settings.clients(), settings.warmup(), clients);
+      return run(http, request, settings.clients(), settings.duration(), clients);
+    }
+  }
+
+  private static String login(HttpClient http, URI base, Settings settings) throws Exception {
+    String body =
+        String.format(
+            "{\"username\":\"%s\",\"password\":\"%s\"}", settings.username(), settings.password());
+    HttpResponse<Void> response =
+        http.send(
+            HttpRequest.newBuilder(base.resolve("/user/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(),
+            HttpResponse.BodyHandlers.discarding());
+    return response
+        .headers()
+        .firstValue("Set-Cookie")
+        .map(cookie -> cookie.split(";", 2)[0])
+        .orElseThrow(() -> new IllegalStateException("Login failed: " + response.statusCode()));
+  }
+
+  private static Result run(
+      HttpClient http, HttpRequest request, int clientCount, Duration length, ExecutorService pool)
+      throws Exception {
+    LongAdder errors = new LongAdder();
+    long start = System.nanoTime();
+    long deadline = start + length.toNanos();
+
+    List<Future<long[]>> futures = new ArrayList<>(clientCount);
+    for (int i = 0; i < clientCount; i++) {
+      futures.add(
+          pool.submit(
+              () -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                  long sent = System.nanoTime();
+                  try {
+                    HttpResponse<Void> response =
+                        http.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 400) {
+                      errors.increment();
+                    }
+                  } catch (Exception e) {
+                    errors.increment();
+                  }
+                  if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                  }
+                  latencies[count++] = System.nanoTime() - sent;
+                }
+                return Arrays.copyOf(latencies, count);
+              }));
+    }
+
+    List<long[]> perClient = new ArrayList<>(clientCount);
+    for (Future<long[]> future : futures) {
+      perClient.add(future.get());
+    }
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    long[] latencies = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+    return new Result(latencies.length, errors.sum(), elapsed, latencies);
+  }
+}
@@ -0,0 +1,61 @@
+package com.dashboard.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/** Minimal HTTP client for the API, authenticated with the token cookie issued at login. */
+final class ApiClient {
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final HttpClient http;
+  private final URI base;
+  private final ObjectMapper objectMapper;
+  private String cookie;
+
+  ApiClient(HttpClient http, URI base, ObjectMapper objectMapper) {
+    this.http = http;
+    this.base = base;
+    this.objectMapper = objectMapper;
+  }
+
+  void login(String username, String password) throws IOException, InterruptedException {
+    HttpResponse<Void> response =
+        send("POST", "/user/login", Map.of("username", username, "password", password));
+    cookie =
+        response
+            .headers()
+            .firstValue("Set-Cookie")
+            .map(header -> header.split(";", 2)[0])
+            .orElseThrow(
+                () -> new IllegalStateException("Login failed: " + response.statusCode()));
+  }
+
+  HttpResponse<Void> send(String method, String path, Object body)
+      throws IOException, InterruptedException {
+    HttpRequest.BodyPublisher publisher =
+        body == null
+            ? HttpRequest.BodyPublishers.noBody()
+            : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    return send(method, path, "application/json", publisher);
+  }
+
+  HttpResponse<Void> send(
+      String method, String path, String contentType, HttpRequest.BodyPublisher body)
+      throws IOException, InterruptedException {
+    HttpRequest.Builder request =
+        HttpRequest.newBuilder(base.resolve(path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", contentType)
+            .method(method, body);
+    if (cookie != null) {
+      request.header("Cookie", cookie);
+    }
+    return http.send(request.build(), HttpResponse.BodyHandlers.discarding());
+  }
+}
@@ -0,0 +1,31 @@
+package com.dashboard.api.loadtest;
+
+/** The endpoints exercised by the load test, with their default share of the traffic. */
+enum Endpoint {
+  SERVER_GET_ALL("server-get-all", "GET /server/getAll", 50),
+  PROJECT_GET_ALL("project-get-all", "GET /project/getAll", 30),
+  PROJECT_REGISTER("project-register", "POST /project/register", 10),
+  SERVER_UPDATE("server-update", "PUT /server/update", 10);
+
+  private final String key;
+  private final String label;
+  private final int defaultWeight;
+
+  Endpoint(String key, String label, int defaultWeight) {
+    this.key = key;
+    this.label = label;
+    this.defaultWeight = defaultWeight;
+  }
+
+  String key() {
+    return key;
+  }
+
+  String label() {
+    return label;
+  }
+
+  int defaultWeight() {
+    return defaultWeight;
+  }
+}
@@ -0,0 +1,41 @@
+package com.dashboard.api.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/** Latency histogram and error count of one endpoint, safe to record from many clients. */
+final class EndpointStats {
+  private static final long MAX_TRACKED_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+  private final Recorder recorder = new Recorder(MAX_TRACKED_MICROS, 3);
+  private final LongAdder errors = new LongAdder();
+
+  void record(long latencyNanos, boolean failed) {
+    recorder.recordValue(
+        Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_TRACKED_MICROS));
+    if (failed) {
+      errors.increment();
+    }
+  }
+
+  /** Discards everything recorded so far, at the end of the warm-up. */
+  void reset() {
+    recorder.reset();
+    errors.reset();
+  }
+
+  /**
+   * Returns the latencies recorded since the last call or reset, in microseconds.
+   *
+   * @return the interval histogram
+   */
+  Histogram histogram() {
+    return recorder.getIntervalHistogram();
+  }
+
+  long errors() {
+    return errors.sum();
+  }
+}
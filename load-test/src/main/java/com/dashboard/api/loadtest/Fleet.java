@@ -0,0 +1,30 @@
+package com.dashboard.api.loadtest;
+
+import java.util.List;
+
+/**
+ * The synthetic data the traffic refers to.
+ *
+ * @param servers the seeded servers
+ * @param regionIds the existing region ids
+ * @param typeIds the existing server type ids
+ * @param activeStatusId the id of the ACTIVE server status
+ * @param projectStatusId the status given to registered projects
+ */
+record Fleet(
+    List<Server> servers,
+    List<Integer> regionIds,
+    List<Integer> typeIds,
+    int activeStatusId,
+    int projectStatusId) {
+
+  /**
+   * A seeded server.
+   *
+   * @param id the server id
+   * @param name the server name
+   * @param regionId the region it was seeded in
+   * @param typeId the type it was seeded with
+   */
+  record Server(long id, String name, int regionId, int typeId) {}
+}
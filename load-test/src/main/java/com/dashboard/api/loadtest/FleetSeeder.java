@@ -0,0 +1,171 @@
+package com.dashboard.api.loadtest;
+
+import com.dashboard.api.persistence.jpa.project.ProjectRepository;
+import com.dashboard.api.persistence.jpa.server.ServerNameView;
+import com.dashboard.api.persistence.jpa.server.ServerRepository;
+import com.dashboard.api.service.fleet.FleetService;
+import com.dashboard.api.service.referencedata.ReferenceDataCache;
+import com.dashboard.api.service.suggest.SuggestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds the synthetic fleet through the real endpoints.
+ *
+ * <p>Servers are sent in one NDJSON payload to {@code /server/import} and projects are created
+ * with {@code /project/register}. Names are derived from their index, so seeding is idempotent:
+ * rows left by a previous run are kept and only the missing ones are created. Reference ids are
+ * read from the application context the test started.
+ *
+ * <p>The traffic registers {@link #RUN_PROJECT_PREFIX} projects and updates seeded servers, so
+ * {@link #reset} puts the fleet back in its seeded state before and after every run. Runs of
+ * different builds are then measured on the same data, whatever earlier runs left behind.
+ */
+final class FleetSeeder {
+  static final String SERVER_PREFIX = "lt-server-";
+  static final String PROJECT_PREFIX = "lt-project-";
+  static final String RUN_PROJECT_PREFIX = "lt-run-";
+
+  /** How many seeded names are looked up per query, keeping each IN list bounded. */
+  private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+  private static final String DELETE_RUN_PROJECT_SERVERS =
+      """
+      DELETE FROM project_servers
+      WHERE project_id IN (SELECT id FROM projects WHERE name LIKE ?)
+      """;
+  private static final String DELETE_RUN_PROJECTS = "DELETE FROM projects WHERE name LIKE ?";
+  private static final String RESTORE_SERVER =
+      """
+      UPDATE servers
+      SET region_id = ?, type_id = ?, status_id = ?, active = TRUE, updated_at = created_at
+      WHERE id = ?
+        AND (region_id <> ? OR type_id <> ? OR status_id <> ? OR NOT active
+             OR updated_at IS DISTINCT FROM created_at)
+      """;
+
+  private final ApplicationContext context;
+  private final ApiClient api;
+  private final ObjectMapper objectMapper;
+
+  FleetSeeder(ApplicationContext context, ApiClient api, ObjectMapper objectMapper) {
+    this.context = context;
+    this.api = api;
+    this.objectMapper = objectMapper;
+  }
+
+  Fleet seed(LoadTestSettings settings) throws IOException, InterruptedException {
+    ReferenceDataCache referenceData = context.getBean(ReferenceDataCache.class);
+    List<Integer> regionIds = referenceData.current().regions().ids().stream().sorted().toList();
+    List<Integer> typeIds = referenceData.current().serverTypes().ids().stream().sorted().toList();
+    Random random = new Random(settings.seed());
+
+    Map<String, int[]> seeded = new HashMap<>();
+    StringBuilder payload = new StringBuilder();
+    for (int i = 0; i < settings.servers(); i++) {
+      String name = String.format("%s%06d", SERVER_PREFIX, i);
+      int regionId = regionIds.get(random.nextInt(regionIds.size()));
+      int typeId = typeIds.get(random.nextInt(typeIds.size()));
+      seeded.put(name, new int[] {regionId, typeId});
+      payload
+          .append(
+              objectMapper.writeValueAsString(
+                  Map.of("name", name, "regionId", regionId, "typeId", typeId)))
+          .append('\n');
+    }
+    HttpResponse<Void> imported =
+        api.send(
+            "POST",
+            "/server/import",
+            "application/x-ndjson",
+            HttpRequest.BodyPublishers.ofString(payload.toString()));
+    if (imported.statusCode() >= 400) {
+      throw new IllegalStateException("Server import failed: " + imported.statusCode());
+    }
+
+    ServerRepository serverRepository = context.getBean(ServerRepository.class);
+    List<String> names = seeded.keySet().stream().sorted().toList();
+    List<Fleet.Server> servers = new ArrayList<>(names.size());
+    for (int from = 0; from < names.size(); from += LOOKUP_CHUNK_SIZE) {
+      List<String> chunk = names.subList(from, Math.min(names.size(), from + LOOKUP_CHUNK_SIZE));
+      for (ServerNameView server : serverRepository.findNamesByNameIn(chunk)) {
+        int[] seed = seeded.get(server.name());
+        servers.add(new Fleet.Server(server.id(), server.name(), seed[0], seed[1]));
+      }
+    }
+    servers.sort(Comparator.comparing(Fleet.Server::name));
+    Fleet fleet =
+        new Fleet(
+            servers,
+            regionIds,
+            typeIds,
+            referenceData.serverStatusId("ACTIVE"),
+            referenceData.defaultProjectStatusId());
+
+    ProjectRepository projects = context.getBean(ProjectRepository.class);
+    for (int i = 0; i < settings.projects(); i++) {
+      String name = String.format("%s%06d", PROJECT_PREFIX, i);
+      if (projects.existsByName(name)) {
+        continue;
+      }
+      List<Long> serverIds = new ArrayList<>(settings.serversPerProject());
+      for (int s = 0; s < settings.serversPerProject(); s++) {
+        serverIds.add(servers.get(random.nextInt(servers.size())).id());
+      }
+      api.send(
+          "POST",
+          "/project/register",
+          new ProjectBody(Optional.empty(), name, serverIds, fleet.projectStatusId(), name));
+    }
+
+    return fleet;
+  }
+
+  /**
+   * Puts the fleet back in its seeded state: deletes every project registered by the traffic and
+   * restores the region, type, status and timestamps of every server it updated. The statements
+   * bypass the API, so the second-level cache is cleared and the in-memory fleet counts and
+   * suggested names are reloaded afterwards.
+   *
+   * @param fleet the seeded fleet
+   */
+  void reset(Fleet fleet) {
+    JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+    String runProjects = RUN_PROJECT_PREFIX + "%";
+    jdbc.update(DELETE_RUN_PROJECT_SERVERS, runProjects);
+    jdbc.update(DELETE_RUN_PROJECTS, runProjects);
+    jdbc.batchUpdate(
+        RESTORE_SERVER,
+        fleet.servers(),
+        1000,
+        (statement, server) -> {
+          statement.setInt(1, server.regionId());
+          statement.setInt(2, server.typeId());
+          statement.setInt(3, fleet.activeStatusId());
+          statement.setLong(4, server.id());
+          statement.setInt(5, server.regionId());
+          statement.setInt(6, server.typeId());
+          statement.setInt(7, fleet.activeStatusId());
+        });
+
+    context.getBean(EntityManagerFactory.class).getCache().evictAll();
+    context.getBean(FleetService.class).reconcile();
+    context.getBean(SuggestService.class).reload();
+  }
+
+  /** Body of {@code /project/register} and {@code /project/update}. */
+  record ProjectBody(
+      Optional<Long> id, String name, List<Long> serverIds, int statusId, String details) {}
+}
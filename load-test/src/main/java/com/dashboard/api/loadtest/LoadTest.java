@@ -0,0 +1,249 @@
+package com.dashboard.api.loadtest;
+
+import com.dashboard.api.ApiApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * End-to-end load test of the API.
+ *
+ * <p>Boots the application on a random port against the database configured in {@code
+ * application.properties} (the {@code compose.yml} Postgres), seeds a synthetic fleet, logs in and
+ * runs a closed-loop mix of reads and writes from {@code loadtest.clients} concurrent clients. The
+ * warm-up is discarded; for the measured window it prints the throughput and latency percentiles of
+ * each endpoint, and writes a JSON summary plus the full HDR percentile distribution of each
+ * endpoint to {@code loadtest.output}. Every random choice derives from {@code loadtest.seed}, so
+ * two runs of the same settings send the same traffic and their results can be compared. The fleet
+ * is reset to its seeded state before the warm-up and again at the end, so every run starts from
+ * the same data.
+ *
+ * <p>Run with {@code ./gradlew :load-test:run -Ploadtest.password=...}; see {@link
+ * LoadTestSettings} for the other properties.
+ */
+public final class LoadTest {
+  private static final DateTimeFormatter RUN_ID =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+  private LoadTest() {}
+
+  /**
+   * Runs the load test.
+   *
+   * @param args unused
+   * @throws Exception if the application can't start or the results can't be written
+   */
+  public static void main(String[] args) throws Exception {
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    String runId = settings.label() + "-" + RUN_ID.format(Instant.now());
+
+    try (ConfigurableApplicationContext app =
+            new SpringApplicationBuilder(ApiApplication.class).properties("server.port=0").run();
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+      ObjectMapper objectMapper = app.getBean(ObjectMapper.class);
+      HttpClient http =
+          HttpClient.newBuilder()
+              .executor(clients)
+              .version(HttpClient.Version.HTTP_1_1)
+              .connectTimeout(Duration.ofSeconds(10))
+              .build();
+      ApiClient api = new ApiClient(http, URI.create("http://localhost:" + port), objectMapper);
+      api.login(settings.username(), settings.password());
+
+      FleetSeeder seeder = new FleetSeeder(app, api, objectMapper);
+      Fleet fleet = seeder.seed(settings);
+      seeder.reset(fleet);
+      System.out.printf(
+          "Fleet ready: %d servers; %d clients, %s warm-up, %s measured%n",
+          fleet.servers().size(), settings.clients(), settings.warmup(), settings.duration());
+
+      Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+      for (Endpoint endpoint : Endpoint.values()) {
+        stats.put(endpoint, new EndpointStats());
+      }
+
+      Duration elapsed;
+      try {
+        drive(api, fleet, settings, stats, settings.warmup(), 0, clients);
+        stats.values().forEach(EndpointStats::reset);
+        Instant start = Instant.now();
+        drive(api, fleet, settings, stats, settings.duration(), 1, clients);
+        elapsed = Duration.between(start, Instant.now());
+      } finally {
+        seeder.reset(fleet);
+      }
+
+      report(settings, runId, stats, elapsed);
+    }
+  }
+
+  private static void drive(
+      ApiClient api,
+      Fleet fleet,
+      LoadTestSettings settings,
+      Map<Endpoint, EndpointStats> stats,
+      Duration length,
+      int phase,
+      ExecutorService pool)
+      throws Exception {
+    long deadline = System.nanoTime() + length.toNanos();
+    AtomicLong registered = new AtomicLong();
+    String nonce = Long.toString(System.currentTimeMillis(), 36);
+
+    List<Future<?>> futures = new ArrayList<>(settings.clients());
+    for (int c = 0; c < settings.clients(); c++) {
+      Random random = new Random(settings.seed() * 31 + phase * 1_000_003L + c);
+      futures.add(
+          pool.submit(
+              () -> {
+                while (System.nanoTime() < deadline) {
+                  Endpoint endpoint = pick(settings.weights(), random);
+                  long sent = System.nanoTime();
+                  boolean failed;
+                  try {
+                    HttpResponse<Void> response =
+                        call(api, endpoint, fleet, random, nonce, registered);
+                    failed = response.statusCode() >= 400;
+                  } catch (IOException e) {
+                    failed = true;
+                  }
+                  stats.get(endpoint).record(System.nanoTime() - sent, failed);
+                }
+                return null;
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+  }
+
+  private static Endpoint pick(Map<Endpoint, Integer> weights, Random random) {
+    int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+    int roll = random.nextInt(total);
+    for (Map.Entry<Endpoint, Integer> weight : weights.entrySet()) {
+      roll -= weight.getValue();
+      if (roll < 0) {
+        return weight.getKey();
+      }
+    }
+    throw new IllegalStateException("Endpoint weights must be positive");
+  }
+
+  private static HttpResponse<Void> call(
+      ApiClient api, Endpoint endpoint, Fleet fleet, Random random, String nonce, AtomicLong count)
+      throws IOException, InterruptedException {
+    String sort = random.nextBoolean() ? "name" : "updatedAt";
+    return switch (endpoint) {
+      case SERVER_GET_ALL -> api.send("GET", "/server/getAll?limit=50&sort=" + sort, null);
+      case PROJECT_GET_ALL -> api.send("GET", "/project/getAll?limit=50&sort=" + sort, null);
+      case PROJECT_REGISTER -> {
+        List<Long> serverIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+          serverIds.add(fleet.servers().get(random.nextInt(fleet.servers().size())).id());
+        }
+        String name = FleetSeeder.RUN_PROJECT_PREFIX + nonce + "-" + count.incrementAndGet();
+        yield api.send(
+            "POST",
+            "/project/register",
+            new FleetSeeder.ProjectBody(
+                Optional.empty(), name, serverIds, fleet.projectStatusId(), name));
+      }
+      case SERVER_UPDATE -> {
+        Fleet.Server server = fleet.servers().get(random.nextInt(fleet.servers().size()));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("id", server.id());
+        body.put("name", server.name());
+        body.put("regionId", fleet.regionIds().get(random.nextInt(fleet.regionIds().size())));
+        body.put("typeId", fleet.typeIds().get(random.nextInt(fleet.typeIds().size())));
+        body.put("statusId", fleet.activeStatusId());
+        yield api.send("PUT", "/server/update", body);
+      }
+    };
+  }
+
+  private static void report(
+      LoadTestSettings settings,
+      String runId,
+      Map<Endpoint, EndpointStats> stats,
+      Duration elapsed)
+      throws IOException {
+    Files.createDirectories(settings.output());
+    double seconds = elapsed.toNanos() / 1e9;
+    Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("run", runId);
+    summary.put("settings", settings.toString().replace(settings.password(), "***"));
+    summary.put("elapsedSeconds", seconds);
+
+    System.out.printf(
+        "%-24s %10s %10s %9s %9s %9s %9s %9s%n",
+        "endpoint", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    Map<String, Object> endpoints = new LinkedHashMap<>();
+    for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+      Endpoint endpoint = entry.getKey();
+      Histogram histogram = entry.getValue().histogram();
+      System.out.printf(
+          "%-24s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+          endpoint.label(),
+          histogram.getTotalCount(),
+          histogram.getTotalCount() / seconds,
+          millis(histogram, 50),
+          millis(histogram, 90),
+          millis(histogram, 99),
+          millis(histogram, 99.9),
+          histogram.getMaxValue() / 1000.0);
+
+      Map<String, Object> result = new LinkedHashMap<>();
+      result.put("requests", histogram.getTotalCount());
+      result.put("errors", entry.getValue().errors());
+      result.put("throughput", histogram.getTotalCount() / seconds);
+      result.put("p50Ms", millis(histogram, 50));
+      result.put("p90Ms", millis(histogram, 90));
+      result.put("p99Ms", millis(histogram, 99));
+      result.put("p999Ms", millis(histogram, 99.9));
+      result.put("maxMs", histogram.getMaxValue() / 1000.0);
+      endpoints.put(endpoint.key(), result);
+
+      Path distribution = settings.output().resolve(runId + "-" + endpoint.key() + ".hgrm");
+      try (PrintStream out = new PrintStream(Files.newOutputStream(distribution))) {
+        histogram.outputPercentileDistribution(out, 1000.0);
+      }
+    }
+    summary.put("endpoints", endpoints);
+
+    Path summaryFile = settings.output().resolve(runId + ".json");
+    new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .writeValue(summaryFile.toFile(), summary);
+    System.out.println("Results written to " + summaryFile.toAbsolutePath());
+  }
+
+  private static double millis(Histogram histogram, double percentile) {
+    return histogram.getValueAtPercentile(percentile) / 1000.0;
+  }
+}
@@ -0,0 +1,65 @@
+package com.dashboard.api.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings of a load-test run, read from the {@code loadtest.*} system properties.
+ *
+ * @param servers the number of synthetic servers in the fleet
+ * @param projects the number of synthetic projects in the fleet
+ * @param serversPerProject the number of servers linked to each project
+ * @param clients the number of concurrent clients
+ * @param warmup how long traffic runs before measuring starts
+ * @param duration how long traffic is measured
+ * @param seed the seed of every random choice, so two runs send the same traffic
+ * @param weights the share of requests sent to each endpoint
+ * @param username the user the clients log in as
+ * @param password the password of that user
+ * @param label a name for the run, used in the result file names
+ * @param output the directory the results are written to
+ */
+record LoadTestSettings(
+    int servers,
+    int projects,
+    int serversPerProject,
+    int clients,
+    Duration warmup,
+    Duration duration,
+    long seed,
+    Map<Endpoint, Integer> weights,
+    String username,
+    String password,
+    String label,
+    Path output) {
+
+  static LoadTestSettings fromSystemProperties() {
+    String password = System.getProperty("loadtest.password");
+    if (password == null) {
+      throw new IllegalArgumentException("loadtest.password is required");
+    }
+
+    Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+    for (Endpoint endpoint : Endpoint.values()) {
+      weights.put(
+          endpoint,
+          Integer.getInteger("loadtest.weight." + endpoint.key(), endpoint.defaultWeight()));
+    }
+
+    return new LoadTestSettings(
+        Integer.getInteger("loadtest.servers", 10_000),
+        Integer.getInteger("loadtest.projects", 500),
+        Integer.getInteger("loadtest.servers-per-project", 10),
+        Integer.getInteger("loadtest.clients", 200),
+        Duration.parse(System.getProperty("loadtest.warmup", "PT30S")),
+        Duration.parse(System.getProperty("loadtest.duration", "PT2M")),
+        Long.getLong("loadtest.seed", 42L),
+        weights,
+        System.getProperty("loadtest.username", "admin"),
+        password,
+        System.getProperty("loadtest.label", "run"),
+        Path.of(System.getProperty("loadtest.output", "build/load-test")));
+  }
+}
@@ -0,0 +1,17 @@
+/**
+ * Formats how long ago an ISO-8601 instant was, using the same shorthand the API used to render
+ * server-side: seconds (s), minutes (min), hours (h) or days (d).
+ */
+export function formatRelativeTime(instant: string, now: Date = new Date()) {
+  const seconds = Math.max(0, Math.floor((now.getTime() - Date.parse(instant)) / 1000));
+  if (seconds < 60) {
+    return `${seconds}s`;
+  }
+  if (seconds < 3600) {
+    return `${Math.floor(seconds / 60)}min`;
+  }
+  if (seconds < 86400) {
+    return `${Math.floor(seconds / 3600)}h`;
+  }
+  return `${Math.floor(seconds / 86400)}d`;
+}
@@ -12,28 +12,47 @@ import {
 } from "@radix-ui/themes";
 import { data } from "react-router";
 import { toData } from "~/helpers/toData";
+import type { CursorPage } from "~/types/pagination/cursor-page";
 import type { ProjectPresenter } from "~/types/project/project-presenter";
 import UserProjects from "./userProjects/userProjects";
 import { useLoaderData } from "react-router";
 
+// The largest page the API serves; the loader follows the cursors until every project is loaded.
+const PAGE_SIZE = 500;
+
 export async function clientLoader() {
-  const response = await fetch("http://localhost:8080/project/getAll", {
-    method: "GET",
-    headers: {
-      "Content-Type": "application/json"
-    },
-    credentials: "include"
-  });
-
-  if (!response.ok) {
-    const res = await response.json();
-    return data(
-      { error: res.message ?? "Login failed" },
-      { status: response.status }
-    );
-  }
-
-  return toData<ProjectPresenter[]>(response);
+  const projects: ProjectPresenter[] = [];
+  let after: string | null = null;
+
+  do {
+    const params = new URLSearchParams({ limit: String(PAGE_SIZE) });
+    if (after) {
+      params.set("after", after);
+    }
+
+    const response = await fetch(`http://localhost:8080/project/getAll?${params}`, {
+      method: "GET",
+      headers: {
+        "Content-Type": "application/json",
+        Accept: "application/vnd.dashboard.v2+json"
+      },
+      credentials: "include"
+    });
+
+    if (!response.ok) {
+      const res = await response.json();
+      return data(
+        { error: res.message ?? "Login failed" },
+        { status: response.status }
+      );
+    }
+
+    const page = await toData<CursorPage<ProjectPresenter>>(response);
+    projects.push(...page.items);
+    after = page.hasMore ? page.nextCursor : null;
+  } while (after);
+
+  return projects;
 }
 
 export default function Dashboard() {
@@ -11,6 +11,7 @@ import {
 	Text,
 } from "@radix-ui/themes";
 import { useState } from "react";
+import { formatRelativeTime } from "~/helpers/formatRelativeTime";
 import type { ProjectPresenter } from "~/types/project/project-presenter";
 import { ProjectDetails } from "./projectDetails/projectDetails";
 import { ProjectManagement } from "./projectManagement/projectManagement";
@@ -177,7 +178,7 @@ export default function UserProjects({ projects }: Props) {
 								</Flex>
 
 								<Text size="1" color="gray" hidden={project.servers.length < 1}>
-									{`Last update: ${project.lastUpdate} ago`}
+									{`Last update: ${formatRelativeTime(project.updatedAt)} ago`}
 								</Text>
 							</Flex>
 						</Box>
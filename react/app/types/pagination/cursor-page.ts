@@ -0,0 +1,5 @@
+export type CursorPage<T> = {
+	items: T[];
+	nextCursor: string | null;
+	hasMore: boolean;
+};
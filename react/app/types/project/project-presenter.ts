@@ -5,6 +5,7 @@ export type ProjectPresenter = {
 	name: string;
 	servers: ServerPresenter[];
 	status: string;
-	lastUpdate: string;
+	updatedAt: string;
+	createdAt: string;
 	details: string;
 };
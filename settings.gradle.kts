@@ -1 +1,3 @@
 rootProject.name = "api"
+
+include("load-test")
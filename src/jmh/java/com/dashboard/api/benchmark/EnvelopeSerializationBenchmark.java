@@ -0,0 +1,67 @@
+package com.dashboard.api.benchmark;
+
+import com.dashboard.api.application.controllers.base.ApiResponse;
+import com.dashboard.api.application.controllers.base.EnvelopeResponseWriter;
+import com.dashboard.api.domain.server.Server;
+import com.dashboard.api.service.server.dto.ServerPresenter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares serializing a listing by building the presenter list and wrapping it in an {@link
+ * ApiResponse} with streaming the same envelope through {@link EnvelopeResponseWriter}. Run with
+ * the gc profiler to compare the allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnvelopeSerializationBenchmark {
+
+  @Param({"100", "10000"})
+  int servers;
+
+  private ObjectMapper objectMapper;
+  private EnvelopeResponseWriter envelopeResponseWriter;
+  private List<Server> serverGraph;
+
+  @Setup
+  public void setUp() {
+    objectMapper =
+        JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    envelopeResponseWriter = new EnvelopeResponseWriter(objectMapper);
+    serverGraph = Fixtures.servers(servers, 0);
+  }
+
+  @Benchmark
+  public void buffered() throws IOException {
+    List<ServerPresenter> body = ServerPresenter.fromMany(serverGraph);
+    objectMapper.writeValue(
+        OutputStream.nullOutputStream(), new ApiResponse<>(200, "Success", body));
+  }
+
+  @Benchmark
+  public void streamed() throws IOException {
+    envelopeResponseWriter
+        .<ServerPresenter>stream(
+            consumer ->
+                serverGraph.forEach(server -> consumer.accept(ServerPresenter.from(server))))
+        .getBody()
+        .writeTo(OutputStream.nullOutputStream());
+  }
+}
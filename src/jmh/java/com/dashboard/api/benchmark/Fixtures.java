@@ -0,0 +1,70 @@
+package com.dashboard.api.benchmark;
+
+import com.dashboard.api.domain.project.Project;
+import com.dashboard.api.domain.projectstatus.ProjectStatus;
+import com.dashboard.api.domain.region.Region;
+import com.dashboard.api.domain.server.Server;
+import com.dashboard.api.domain.serverstatus.ServerStatus;
+import com.dashboard.api.domain.servertype.ServerType;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds detached entity graphs for the benchmarks.
+ *
+ * <p>Ids and audit timestamps are normally filled in by JPA, so they are set by reflection here.
+ */
+final class Fixtures {
+  private static final ServerStatus ACTIVE = new ServerStatus.Builder().name("ACTIVE").build();
+  private static final ServerType PRODUCTION =
+      new ServerType.Builder().name(ServerType.PRODUCTION).build();
+  private static final Region REGION = new Region.Builder().name("Brazil").code("BR").build();
+  private static final ProjectStatus HEALTHY = new ProjectStatus("HEALTHY");
+
+  private Fixtures() {}
+
+  static List<Server> servers(int count, long firstId) {
+    List<Server> servers = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Server server =
+          new Server.Builder()
+              .name("server-" + (firstId + i))
+              .status(ACTIVE)
+              .type(PRODUCTION)
+              .region(REGION)
+              .build();
+      set(server, "id", firstId + i);
+      servers.add(server);
+    }
+    return servers;
+  }
+
+  static List<Project> projects(int count, int serversPerProject) {
+    Instant updatedAt = Instant.now().minusSeconds(3600);
+    List<Project> projects = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Project project =
+          new Project(
+              "project-" + i,
+              servers(serversPerProject, (long) i * serversPerProject),
+              HEALTHY,
+              "Benchmark project " + i);
+      set(project, "id", (long) i);
+      set(project, "updatedAt", updatedAt);
+      projects.add(project);
+    }
+    return projects;
+  }
+
+  static void set(Object target, String fieldName, Object value) {
+    try {
+      Field field = target.getClass().getDeclaredField(fieldName);
+      field.setAccessible(true);
+      field.set(target, value);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Can't set " + fieldName, e);
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.dashboard.api.benchmark;
+
+import com.dashboard.api.helpers.StringUtils;
+import com.dashboard.api.helpers.TimeUtils;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Measures the formatting helpers called for every project in a response. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HelpersBenchmark {
+
+  /** Age of the formatted timestamp, in seconds: one per time category. */
+  @Param({"30", "1800", "7200", "172800"})
+  long ageSeconds;
+
+  private Instant now;
+  private Instant updatedAt;
+  private String status;
+
+  @Setup
+  public void setUp() {
+    now = Instant.now();
+    updatedAt = now.minusSeconds(ageSeconds);
+    status = "DEPLOY ERROR";
+  }
+
+  @Benchmark
+  public String formatRelativeTime() {
+    return TimeUtils.formatRelativeTime(updatedAt, now);
+  }
+
+  @Benchmark
+  public String capitalizeWord() {
+    return StringUtils.capitalizeWord(status);
+  }
+}
@@ -0,0 +1,48 @@
+package com.dashboard.api.benchmark;
+
+import com.dashboard.api.domain.project.Project;
+import com.dashboard.api.domain.server.Server;
+import com.dashboard.api.service.project.dto.ProjectPresenter;
+import com.dashboard.api.service.server.dto.ServerPresenter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Measures the mapping of entity graphs to the presenters returned by the list endpoints. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PresenterBenchmark {
+
+  @Param({"100", "10000"})
+  int servers;
+
+  @Param({"10", "50"})
+  int serversPerProject;
+
+  private List<Server> serverGraph;
+  private List<Project> projectGraph;
+
+  @Setup
+  public void setUp() {
+    serverGraph = Fixtures.servers(servers, 0);
+    projectGraph = Fixtures.projects(servers / serversPerProject, serversPerProject);
+  }
+
+  @Benchmark
+  public List<ServerPresenter> serverFromMany() {
+    return ServerPresenter.fromMany(serverGraph);
+  }
+
+  @Benchmark
+  public List<ProjectPresenter> projectFromMany() {
+    return ProjectPresenter.fromMany(projectGraph);
+  }
+}
@@ -0,0 +1,53 @@
+package com.dashboard.api.benchmark;
+
+import com.dashboard.api.application.controllers.base.ControllerBase;
+import com.dashboard.api.service.server.dto.ServerPresenter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/** Measures the {@link ControllerBase} wrap applied to every JSON response body. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseEnvelopeBenchmark {
+
+  private ControllerBase controllerBase;
+  private MethodParameter returnType;
+  private ServletServerHttpRequest request;
+  private ServletServerHttpResponse response;
+  private List<ServerPresenter> body;
+
+  @Setup
+  public void setUp() throws NoSuchMethodException {
+    controllerBase = new ControllerBase();
+    returnType = new MethodParameter(getClass().getDeclaredMethod("wrap"), -1);
+    request = new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/server/getAll"));
+    response = new ServletServerHttpResponse(new MockHttpServletResponse());
+    body = ServerPresenter.fromMany(Fixtures.servers(50, 0));
+  }
+
+  @Benchmark
+  public Object wrap() {
+    return controllerBase.beforeBodyWrite(
+        body,
+        returnType,
+        MediaType.APPLICATION_JSON,
+        MappingJackson2HttpMessageConverter.class,
+        request,
+        response);
+  }
+}
@@ -0,0 +1,68 @@
+package com.dashboard.api.benchmark;
+
+import com.dashboard.api.infrastructure.jwt.TokenProvider;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Measures token issuing and the three ways a request token can be checked: full verification,
+ * full verification plus claims extraction (what the filter used to do), and the cached path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderBenchmark {
+
+  private TokenProvider tokenProvider;
+  private Authentication authentication;
+  private String token;
+
+  @Setup
+  public void setUp() throws ReflectiveOperationException {
+    tokenProvider = new TokenProvider();
+    Fixtures.set(tokenProvider, "secret", "benchmark-secret-key-benchmark-secret-key-0123456789");
+    Fixtures.set(tokenProvider, "issuer", "DashboardAPI");
+    Fixtures.set(tokenProvider, "expirationTimeInSeconds", 86400L);
+    Fixtures.set(tokenProvider, "verifiedTokenCacheSize", 10_000L);
+    Method init = TokenProvider.class.getDeclaredMethod("init");
+    init.setAccessible(true);
+    init.invoke(tokenProvider);
+
+    authentication =
+        new UsernamePasswordAuthenticationToken(
+            "admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+    token = tokenProvider.makeToken(authentication);
+  }
+
+  @Benchmark
+  public String makeToken() {
+    return tokenProvider.makeToken(authentication);
+  }
+
+  @Benchmark
+  public boolean validateToken() {
+    return tokenProvider.validateToken(token);
+  }
+
+  @Benchmark
+  public Authentication validateAndSetAuthentication() {
+    return tokenProvider.validateToken(token) ? tokenProvider.setAuthentication(token) : null;
+  }
+
+  @Benchmark
+  public Optional<Authentication> authenticateCached() {
+    return tokenProvider.authenticate(token);
+  }
+}
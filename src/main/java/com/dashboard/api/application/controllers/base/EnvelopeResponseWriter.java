@@ -0,0 +1,85 @@
+package com.dashboard.api.application.controllers.base;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Writes collections in the standard {@link ApiResponse} envelope, streaming the {@code data}
+ * array straight to the servlet output stream.
+ *
+ * <p>{@link ControllerBase} can only wrap a body once it has been fully built, so Jackson
+ * serializes the envelope after the whole presenter list is in memory. This writer emits {@code
+ * timestamp}, {@code status} and {@code message} first and then serializes each item as the
+ * source produces it, flushing every {@link #FLUSH_EVERY} items, so the JSON has the same shape
+ * but a collection of any size is written in constant memory. Once the first bytes are flushed
+ * the status can't change, so a failure half way through truncates the document instead of
+ * turning into an error envelope.
+ */
+@Component
+public class EnvelopeResponseWriter {
+  private static final int FLUSH_EVERY = 1000;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final ObjectMapper objectMapper;
+
+  public EnvelopeResponseWriter(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Builds a streamed, enveloped JSON response fed by the given source.
+   *
+   * @param <T> the type of the items
+   * @param source a function that pushes every item to the consumer it's given
+   * @return a response whose body is written while the source runs
+   */
+  public <T> ResponseEntity<StreamingResponseBody> stream(Consumer<Consumer<T>> source) {
+    StreamingResponseBody body = out -> write(out, source);
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+  }
+
+  private <T> void write(OutputStream out, Consumer<Consumer<T>> source) throws IOException {
+    JsonGenerator generator =
+        objectMapper.createGenerator(new BufferedOutputStream(out, BUFFER_SIZE));
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    generator.writeStartObject();
+    generator.writeObjectField("timestamp", LocalDateTime.now());
+    generator.writeNumberField("status", HttpStatus.OK.value());
+    generator.writeStringField("message", "Success");
+    generator.writeArrayFieldStart("data");
+
+    int[] pending = {0};
+    try {
+      source.accept(
+          item -> {
+            try {
+              generator.writeObject(item);
+              if (++pending[0] == FLUSH_EVERY) {
+                generator.flush();
+                pending[0] = 0;
+              }
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    generator.writeEndArray();
+    generator.writeEndObject();
+    generator.close();
+  }
+}
@@ -0,0 +1,70 @@
+package com.dashboard.api.application.controllers.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Writes newline-delimited JSON (NDJSON) responses straight to the servlet output stream.
+ *
+ * <p>Items are serialized one at a time as the source produces them and the output is flushed
+ * every {@link #FLUSH_EVERY} items, so a response of any length is written in constant memory.
+ * Streamed bodies bypass {@link ControllerBase}, so they're not wrapped in an {@link ApiResponse}.
+ */
+@Component
+public class NdjsonResponseWriter {
+  public static final String NDJSON_VALUE = "application/x-ndjson";
+  public static final MediaType NDJSON = MediaType.parseMediaType(NDJSON_VALUE);
+
+  private static final int FLUSH_EVERY = 1000;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final ObjectWriter writer;
+
+  public NdjsonResponseWriter(ObjectMapper objectMapper) {
+    this.writer = objectMapper.writer();
+  }
+
+  /**
+   * Builds a streamed NDJSON response fed by the given source.
+   *
+   * @param <T> the type of the items
+   * @param source a function that pushes every item to the consumer it's given
+   * @return a response whose body is written while the source runs
+   */
+  public <T> ResponseEntity<StreamingResponseBody> stream(Consumer<Consumer<T>> source) {
+    StreamingResponseBody body = out -> write(out, source);
+    return ResponseEntity.ok().contentType(NDJSON).body(body);
+  }
+
+  private <T> void write(OutputStream out, Consumer<Consumer<T>> source) throws IOException {
+    BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+    int[] pending = {0};
+    try {
+      source.accept(
+          item -> {
+            try {
+              buffered.write(writer.writeValueAsBytes(item));
+              buffered.write('\n');
+              if (++pending[0] == FLUSH_EVERY) {
+                buffered.flush();
+                pending[0] = 0;
+              }
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    buffered.flush();
+  }
+}
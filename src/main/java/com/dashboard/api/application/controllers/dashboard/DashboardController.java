@@ -0,0 +1,34 @@
+package com.dashboard.api.application.controllers.dashboard;
+
+import com.dashboard.api.service.dashboard.DashboardService;
+import com.dashboard.api.service.dashboard.dto.DashboardBootstrap;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** REST controller serving the data of the dashboard's first render in one round trip. */
+@RestController
+@RequestMapping("/dashboard")
+public class DashboardController {
+
+  private final DashboardService dashboardService;
+
+  public DashboardController(DashboardService dashboardService) {
+    this.dashboardService = dashboardService;
+  }
+
+  /**
+   * Returns the logged-in user, the most recently updated projects and the fleet counts.
+   *
+   * @param projects the maximum number of projects to include
+   * @return the composed payload; parts that couldn't be gathered in time are listed in {@code
+   *     unavailable}
+   */
+  @GetMapping("/bootstrap")
+  @PreAuthorize("hasRole('USER')")
+  public DashboardBootstrap bootstrap(@RequestParam(defaultValue = "50") int projects) {
+    return dashboardService.bootstrap(projects);
+  }
+}
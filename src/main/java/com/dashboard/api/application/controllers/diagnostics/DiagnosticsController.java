@@ -0,0 +1,31 @@
+package com.dashboard.api.application.controllers.diagnostics;
+
+import com.dashboard.api.infrastructure.diagnostics.PinningMonitor;
+import com.dashboard.api.infrastructure.diagnostics.PinningReport;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/** REST controller exposing runtime diagnostics to administrators. */
+@RestController
+@RequestMapping("/diagnostics")
+public class DiagnosticsController {
+
+  private final PinningMonitor pinningMonitor;
+
+  public DiagnosticsController(PinningMonitor pinningMonitor) {
+    this.pinningMonitor = pinningMonitor;
+  }
+
+  /**
+   * Reports the carrier-thread pinning of virtual threads observed since startup.
+   *
+   * @return the pinning report; empty when virtual threads are disabled
+   */
+  @GetMapping("/pinning")
+  @PreAuthorize("hasRole('ADMIN')")
+  public PinningReport pinning() {
+    return pinningMonitor.report();
+  }
+}
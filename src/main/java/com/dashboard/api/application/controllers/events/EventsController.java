@@ -0,0 +1,38 @@
+package com.dashboard.api.application.controllers.events;
+
+import com.dashboard.api.infrastructure.events.ChangeBroadcaster;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller streaming server and project changes as Server-Sent Events.
+ *
+ * <p>Every event is named after the change (e.g. {@code server.updated}, {@code
+ * project.deleted}) and carries a {@code ChangeEvent} whose {@code data} is the presenter of the
+ * changed entity, so dashboards can apply deltas instead of polling the listings.
+ */
+@RestController
+@RequestMapping("/events")
+public class EventsController {
+
+  private final ChangeBroadcaster changeBroadcaster;
+
+  public EventsController(ChangeBroadcaster changeBroadcaster) {
+    this.changeBroadcaster = changeBroadcaster;
+  }
+
+  /**
+   * Subscribes to the change stream.
+   *
+   * @return the event stream
+   */
+  @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @PreAuthorize("hasRole('USER')")
+  public SseEmitter subscribe() {
+    return changeBroadcaster.subscribe();
+  }
+}
@@ -1,8 +1,12 @@
 package com.dashboard.api.application.controllers.exception;
 
 import com.dashboard.api.application.controllers.base.ApiResponse;
+import com.dashboard.api.domain.exception.BadRequestException;
 import com.dashboard.api.domain.exception.UnauthorizedException;
 import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -24,6 +28,24 @@ public class GlobalExceptionHandler {
         .body(new ApiResponse<>(HttpStatus.BAD_REQUEST.value(), ex.getMessage(), null));
   }
 
+  @ExceptionHandler(EntityNotFoundException.class)
+  public ResponseEntity<ApiResponse<Object>> handleEntityNotFound(EntityNotFoundException ex) {
+    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+        .body(new ApiResponse<>(HttpStatus.NOT_FOUND.value(), ex.getMessage(), null));
+  }
+
+  @ExceptionHandler({OptimisticLockException.class, OptimisticLockingFailureException.class})
+  public ResponseEntity<ApiResponse<Object>> handleConflict(Exception ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(new ApiResponse<>(HttpStatus.CONFLICT.value(), ex.getMessage(), null));
+  }
+
+  @ExceptionHandler(BadRequestException.class)
+  public ResponseEntity<ApiResponse<Object>> handleBadRequest(BadRequestException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(new ApiResponse<>(HttpStatus.BAD_REQUEST.value(), ex.getMessage(), null));
+  }
+
   @ExceptionHandler(UnauthorizedException.class)
   public ResponseEntity<ApiResponse<Object>> handleUnauthorized(Exception ex) {
     return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
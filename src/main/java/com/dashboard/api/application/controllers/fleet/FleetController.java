@@ -0,0 +1,32 @@
+package com.dashboard.api.application.controllers.fleet;
+
+import com.dashboard.api.service.fleet.FleetService;
+import com.dashboard.api.service.fleet.dto.FleetSummary;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/** REST controller serving aggregate counts of the fleet. */
+@RestController
+@RequestMapping("/fleet")
+public class FleetController {
+
+  private final FleetService fleetService;
+
+  public FleetController(FleetService fleetService) {
+    this.fleetService = fleetService;
+  }
+
+  /**
+   * Returns the number of servers per region, type, status and active flag, and of projects per
+   * status. The counts are held in memory, so this doesn't query the database.
+   *
+   * @return the fleet summary
+   */
+  @GetMapping("/summary")
+  @PreAuthorize("hasRole('USER')")
+  public FleetSummary summary() {
+    return fleetService.getSummary();
+  }
+}
@@ -1,20 +1,34 @@
 package com.dashboard.api.application.controllers.project;
 
+import com.dashboard.api.application.controllers.base.EnvelopeResponseWriter;
+import com.dashboard.api.application.controllers.base.NdjsonResponseWriter;
 import com.dashboard.api.domain.project.Project;
+import com.dashboard.api.service.base.pagination.CursorPage;
+import com.dashboard.api.service.base.pagination.PageSort;
+import com.dashboard.api.service.base.presentation.TimeFormat;
 import com.dashboard.api.service.project.ProjectService;
+import com.dashboard.api.service.project.dto.ProjectPatchInput;
 import com.dashboard.api.service.project.dto.ProjectPresenter;
 import com.dashboard.api.service.project.dto.ProjectRegisterInput;
+import com.dashboard.api.service.suggest.SuggestService;
+import com.dashboard.api.service.suggest.dto.Suggestion;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for managing projects.
@@ -28,36 +42,173 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProjectController {
 
   private ProjectService projectService;
+  private NdjsonResponseWriter ndjsonResponseWriter;
+  private EnvelopeResponseWriter envelopeResponseWriter;
+  private SuggestService suggestService;
 
-  public ProjectController(ProjectService projectService) {
+  public ProjectController(
+      ProjectService projectService,
+      NdjsonResponseWriter ndjsonResponseWriter,
+      EnvelopeResponseWriter envelopeResponseWriter,
+      SuggestService suggestService) {
     this.projectService = projectService;
+    this.ndjsonResponseWriter = ndjsonResponseWriter;
+    this.envelopeResponseWriter = envelopeResponseWriter;
+    this.suggestService = suggestService;
   }
 
+  /**
+   * Lists projects one page at a time.
+   *
+   * @param after the {@code nextCursor} of the previous page; omit it to get the first page
+   * @param limit the page size, capped at {@link CursorPage#MAX_LIMIT}
+   * @param sort the sort key: "name", "updatedAt" or "createdAt"
+   * @param time the timestamp rendering: "relative" or "absolute"; see {@link TimeFormat}
+   * @param request the current request, checked against the listing's ETag in the absolute format
+   * @return the requested page, or nothing with a 304 status if the client's copy is current
+   */
   @GetMapping("/getAll")
   @PreAuthorize("hasRole('USER')")
-  public List<ProjectPresenter> getAll() {
-    List<Project> projects = projectService.getAll();
-    return ProjectPresenter.fromMany(projects);
+  public CursorPage<ProjectPresenter> getAll(
+      @RequestParam(required = false) String after,
+      @RequestParam(defaultValue = "50") int limit,
+      @RequestParam(defaultValue = "name") String sort,
+      @RequestParam(required = false) String time,
+      ServletWebRequest request) {
+    TimeFormat format = timeFormat(time, request);
+    if (format.isRevalidatable()
+        && request.checkNotModified(format.tag(projectService.getListETag()))) {
+      return null;
+    }
+    return projectService.getPage(after, limit, PageSort.from(sort), format);
   }
 
+  /**
+   * Exports every project as newline-delimited JSON, streamed as it is read from the database.
+   *
+   * @param time the timestamp rendering: "relative" (default) or "absolute"
+   * @return the streamed NDJSON response
+   */
+  @GetMapping(value = "/export", produces = NdjsonResponseWriter.NDJSON_VALUE)
+  @PreAuthorize("hasRole('USER')")
+  public ResponseEntity<StreamingResponseBody> export(
+      @RequestParam(defaultValue = "relative") String time) {
+    TimeFormat format = TimeFormat.from(time);
+    return ndjsonResponseWriter.<ProjectPresenter>stream(
+        consumer -> projectService.forEachProject(format, consumer));
+  }
+
+  /**
+   * Lists every project in the standard response envelope, with the {@code data} array streamed
+   * as it is read from the database instead of being built in memory first.
+   *
+   * @param time the timestamp rendering: "relative" or "absolute"; see {@link TimeFormat}
+   * @param request the current request
+   * @return the streamed JSON response
+   */
+  @GetMapping("/stream")
+  @PreAuthorize("hasRole('USER')")
+  public ResponseEntity<StreamingResponseBody> stream(
+      @RequestParam(required = false) String time, ServletWebRequest request) {
+    TimeFormat format = timeFormat(time, request);
+    return envelopeResponseWriter.<ProjectPresenter>stream(
+        consumer -> projectService.forEachProject(format, consumer));
+  }
+
+  /**
+   * Suggests projects whose name starts with what the user typed, for type-ahead pickers. The
+   * names are held in memory, so this doesn't query the database.
+   *
+   * @param prefix the typed prefix, matched ignoring case
+   * @param limit the number of suggestions, capped at {@link SuggestService#MAX_LIMIT}
+   * @return the matching projects, most recently updated first
+   */
+  @GetMapping("/suggest")
+  @PreAuthorize("hasRole('USER')")
+  public List<Suggestion> suggest(
+      @RequestParam(defaultValue = "") String prefix,
+      @RequestParam(defaultValue = "10") int limit) {
+    return suggestService.suggestProjects(prefix, limit);
+  }
+
+  /**
+   * Retrieves one project.
+   *
+   * @param id the project id
+   * @param time the timestamp rendering: "relative" or "absolute"; see {@link TimeFormat}
+   * @param request the current request, checked against the project's ETag in the absolute format
+   * @return the project, or nothing with a 304 status if the client's copy is current
+   */
   @GetMapping("/get")
   @PreAuthorize("hasRole('USER')")
-  public ProjectPresenter get(@RequestParam Long id) {
-    return projectService.get(id);
+  public ProjectPresenter get(
+      @RequestParam Long id,
+      @RequestParam(required = false) String time,
+      ServletWebRequest request) {
+    TimeFormat format = timeFormat(time, request);
+    if (format.isRevalidatable()) {
+      Optional<String> etag = projectService.getETag(id).map(format::tag);
+      if (etag.isPresent() && request.checkNotModified(etag.get())) {
+        return null;
+      }
+    }
+    return projectService.get(id, format);
   }
 
+  /**
+   * Registers a project.
+   *
+   * @param input the project to register
+   * @param time the timestamp rendering: "relative" or "absolute"; see {@link TimeFormat}
+   * @param request the current request, whose Accept header can also select the rendering
+   * @return the registered project
+   */
   @PostMapping("/register")
   @PreAuthorize("hasRole('USER')")
-  public ProjectPresenter register(@RequestBody ProjectRegisterInput input) {
+  public ProjectPresenter register(
+      @RequestBody ProjectRegisterInput input,
+      @RequestParam(required = false) String time,
+      ServletWebRequest request) {
+    TimeFormat format = timeFormat(time, request);
     Project project = projectService.register(input);
-    return ProjectPresenter.from(project);
+    return ProjectPresenter.from(project, format);
   }
 
+  /**
+   * Replaces a project, including its servers.
+   *
+   * @param input the project's new state, with its id
+   * @param time the timestamp rendering: "relative" or "absolute"; see {@link TimeFormat}
+   * @param request the current request, whose Accept header can also select the rendering
+   * @return the project after the change
+   */
   @PutMapping("/update")
   @PreAuthorize("hasRole('USER')")
-  public ProjectPresenter update(@RequestBody ProjectRegisterInput input) {
+  public ProjectPresenter update(
+      @RequestBody ProjectRegisterInput input,
+      @RequestParam(required = false) String time,
+      ServletWebRequest request) {
+    TimeFormat format = timeFormat(time, request);
     Project project = projectService.update(input);
-    return ProjectPresenter.from(project);
+    return ProjectPresenter.from(project, format);
+  }
+
+  /**
+   * Changes only the fields present in the body, e.g. just the details, in a single UPDATE. The
+   * servers of the project can only be changed through {@code PUT /project/update}.
+   *
+   * @param input the fields to change, with the project's id and the {@code version} last read
+   * @param time the timestamp rendering: "relative" or "absolute"; see {@link TimeFormat}
+   * @param request the current request, whose Accept header can also select the rendering
+   * @return the project after the change, with its new version
+   */
+  @PatchMapping("/update")
+  @PreAuthorize("hasRole('USER')")
+  public ProjectPresenter patch(
+      @RequestBody ProjectPatchInput input,
+      @RequestParam(required = false) String time,
+      ServletWebRequest request) {
+    return projectService.patch(input, timeFormat(time, request));
   }
 
   @DeleteMapping("/delete")
@@ -65,4 +216,15 @@ public class ProjectController {
   public String delete(@RequestParam Long id) {
     return projectService.delete(id);
   }
+
+  /**
+   * Picks the time format of a request. The representation may depend on the Accept header, so
+   * caches are told to key on it too.
+   */
+  private static TimeFormat timeFormat(String time, ServletWebRequest request) {
+    if (request.getResponse() != null) {
+      request.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+    return TimeFormat.negotiate(time, request.getHeader(HttpHeaders.ACCEPT));
+  }
 }
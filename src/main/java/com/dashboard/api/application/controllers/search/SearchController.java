@@ -0,0 +1,40 @@
+package com.dashboard.api.application.controllers.search;
+
+import com.dashboard.api.service.base.pagination.CursorPage;
+import com.dashboard.api.service.search.SearchService;
+import com.dashboard.api.service.search.dto.SearchHitPresenter;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** REST controller searching servers, projects and regions. */
+@RestController
+@RequestMapping("/search")
+public class SearchController {
+
+  private final SearchService searchService;
+
+  public SearchController(SearchService searchService) {
+    this.searchService = searchService;
+  }
+
+  /**
+   * Searches server names, project names and details, and region names and codes.
+   *
+   * @param q the search term; words are matched anywhere, and terms of three or more characters
+   *     also match inside names
+   * @param after the {@code nextCursor} of the previous page; omit it to get the first page
+   * @param limit the page size, capped at {@link CursorPage#MAX_LIMIT}
+   * @return the requested page of results, most relevant first
+   */
+  @GetMapping
+  @PreAuthorize("hasRole('USER')")
+  public CursorPage<SearchHitPresenter> search(
+      @RequestParam String q,
+      @RequestParam(required = false) String after,
+      @RequestParam(defaultValue = "20") int limit) {
+    return searchService.search(q, after, limit);
+  }
+}
@@ -1,20 +1,41 @@
 package com.dashboard.api.application.controllers.server;
 
+import com.dashboard.api.application.controllers.base.EnvelopeResponseWriter;
+import com.dashboard.api.application.controllers.base.NdjsonResponseWriter;
 import com.dashboard.api.domain.server.Server;
+import com.dashboard.api.persistence.jpa.server.ServerFilter;
+import com.dashboard.api.service.base.pagination.CursorPage;
+import com.dashboard.api.service.base.pagination.PageSort;
+import com.dashboard.api.service.server.ServerImportFormat;
+import com.dashboard.api.service.server.ServerImportService;
 import com.dashboard.api.service.server.ServerService;
+import com.dashboard.api.service.server.dto.ServerImportSummary;
+import com.dashboard.api.service.server.dto.ServerPatchInput;
 import com.dashboard.api.service.server.dto.ServerPresenter;
 import com.dashboard.api.service.server.dto.ServerRegisterInput;
+import com.dashboard.api.service.suggest.SuggestService;
+import com.dashboard.api.service.suggest.dto.Suggestion;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for managing servers.
@@ -29,21 +50,156 @@ import org.springframework.web.bind.annotation.RestController;
 public class ServerController {
 
   private ServerService serverService;
+  private ServerImportService serverImportService;
+  private NdjsonResponseWriter ndjsonResponseWriter;
+  private EnvelopeResponseWriter envelopeResponseWriter;
+  private SuggestService suggestService;
 
-  public ServerController(ServerService serverService) {
+  /**
+   * Constructs the ServerController with required services.
+   *
+   * @param serverService the service for Server entities
+   * @param serverImportService the service for bulk server imports
+   * @param ndjsonResponseWriter the writer used for streamed exports
+   * @param envelopeResponseWriter the writer used for streamed, enveloped listings
+   * @param suggestService the service suggesting server names
+   */
+  public ServerController(
+      ServerService serverService,
+      ServerImportService serverImportService,
+      NdjsonResponseWriter ndjsonResponseWriter,
+      EnvelopeResponseWriter envelopeResponseWriter,
+      SuggestService suggestService) {
     this.serverService = serverService;
+    this.serverImportService = serverImportService;
+    this.ndjsonResponseWriter = ndjsonResponseWriter;
+    this.envelopeResponseWriter = envelopeResponseWriter;
+    this.suggestService = suggestService;
   }
 
+  /**
+   * Lists servers one page at a time.
+   *
+   * @param after the {@code nextCursor} of the previous page; omit it to get the first page
+   * @param limit the page size, capped at {@link CursorPage#MAX_LIMIT}
+   * @param sort the sort key: "name", "updatedAt" or "createdAt"
+   * @param request the current request, checked against the listing's ETag
+   * @return the requested page, or nothing with a 304 status if the client's copy is current
+   */
   @GetMapping("/getAll")
   @PreAuthorize("hasRole('USER')")
-  public List<ServerPresenter> getAll() {
-    List<Server> servers = serverService.getAll();
-    return ServerPresenter.fromMany(servers);
+  public CursorPage<ServerPresenter> getAll(
+      @RequestParam(required = false) String after,
+      @RequestParam(defaultValue = "50") int limit,
+      @RequestParam(defaultValue = "name") String sort,
+      WebRequest request) {
+    if (request.checkNotModified(serverService.getListETag())) {
+      return null;
+    }
+    return serverService.getPage(after, limit, PageSort.from(sort));
   }
 
+  /**
+   * Lists the servers matching a filter one page at a time, e.g. every inactive production server
+   * of a region. Every filter is optional and they're combined with AND; timestamps are ISO-8601
+   * instants and each range includes its start but not its end.
+   *
+   * @param regionId only servers in this region
+   * @param typeId only servers of this type
+   * @param statusId only servers with this status
+   * @param active only active or only inactive servers
+   * @param name only servers whose name starts with this, case-sensitively
+   * @param createdFrom only servers created at or after this instant
+   * @param createdTo only servers created before this instant
+   * @param updatedFrom only servers updated at or after this instant
+   * @param updatedTo only servers updated before this instant
+   * @param after the {@code nextCursor} of the previous page; omit it to get the first page
+   * @param limit the page size, capped at {@link CursorPage#MAX_LIMIT}
+   * @param sort the sort key: "name", "updatedAt" or "createdAt"
+   * @return the requested page of matching servers
+   */
+  @GetMapping("/list")
+  @PreAuthorize("hasRole('USER')")
+  public CursorPage<ServerPresenter> list(
+      @RequestParam(required = false) Integer regionId,
+      @RequestParam(required = false) Integer typeId,
+      @RequestParam(required = false) Integer statusId,
+      @RequestParam(required = false) Boolean active,
+      @RequestParam(required = false) String name,
+      @RequestParam(required = false) Instant createdFrom,
+      @RequestParam(required = false) Instant createdTo,
+      @RequestParam(required = false) Instant updatedFrom,
+      @RequestParam(required = false) Instant updatedTo,
+      @RequestParam(required = false) String after,
+      @RequestParam(defaultValue = "50") int limit,
+      @RequestParam(defaultValue = "name") String sort) {
+    ServerFilter filter =
+        new ServerFilter(
+            regionId,
+            typeId,
+            statusId,
+            active,
+            name,
+            createdFrom,
+            createdTo,
+            updatedFrom,
+            updatedTo);
+    return serverService.getFilteredPage(filter, after, limit, PageSort.from(sort));
+  }
+
+  /**
+   * Exports every server as newline-delimited JSON, streamed as it is read from the database.
+   *
+   * @return the streamed NDJSON response
+   */
+  @GetMapping(value = "/export", produces = NdjsonResponseWriter.NDJSON_VALUE)
+  @PreAuthorize("hasRole('USER')")
+  public ResponseEntity<StreamingResponseBody> export() {
+    return ndjsonResponseWriter.<ServerPresenter>stream(serverService::forEachServer);
+  }
+
+  /**
+   * Lists every server in the standard response envelope, with the {@code data} array streamed
+   * as it is read from the database instead of being built in memory first.
+   *
+   * @return the streamed JSON response
+   */
+  @GetMapping("/stream")
+  @PreAuthorize("hasRole('USER')")
+  public ResponseEntity<StreamingResponseBody> stream() {
+    return envelopeResponseWriter.<ServerPresenter>stream(serverService::forEachServer);
+  }
+
+  /**
+   * Suggests servers whose name starts with what the user typed, for type-ahead pickers. The names
+   * are held in memory, so this doesn't query the database.
+   *
+   * @param prefix the typed prefix, matched ignoring case
+   * @param limit the number of suggestions, capped at {@link SuggestService#MAX_LIMIT}
+   * @return the matching servers, most recently updated first
+   */
+  @GetMapping("/suggest")
+  @PreAuthorize("hasRole('USER')")
+  public List<Suggestion> suggest(
+      @RequestParam(defaultValue = "") String prefix,
+      @RequestParam(defaultValue = "10") int limit) {
+    return suggestService.suggestServers(prefix, limit);
+  }
+
+  /**
+   * Retrieves one server.
+   *
+   * @param id the server id
+   * @param request the current request, checked against the server's ETag
+   * @return the server, or nothing with a 304 status if the client's copy is current
+   */
   @GetMapping("/get")
   @PreAuthorize("hasRole('USER')")
-  public ServerPresenter get(@RequestParam Long id) {
+  public ServerPresenter get(@RequestParam Long id, WebRequest request) {
+    Optional<String> etag = serverService.getETag(id);
+    if (etag.isPresent() && request.checkNotModified(etag.get())) {
+      return null;
+    }
     return serverService.get(id);
   }
 
@@ -54,6 +210,24 @@ public class ServerController {
     return ServerPresenter.from(server);
   }
 
+  /**
+   * Imports servers in bulk from a CSV ({@code name,regionId,typeId}) or NDJSON payload.
+   *
+   * <p>The body is streamed and processed in chunks, so the payload can be arbitrarily large.
+   *
+   * @param contentType the payload format, {@code text/csv} or {@code application/x-ndjson}
+   * @param body the request body
+   * @return a summary of imported and rejected rows
+   * @throws IOException if the body can't be read
+   */
+  @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+  @PreAuthorize("hasRole('USER')")
+  public ServerImportSummary importServers(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body)
+      throws IOException {
+    return serverImportService.importServers(body, ServerImportFormat.fromContentType(contentType));
+  }
+
   @PutMapping("/update")
   @PreAuthorize("hasRole('USER')")
   public ServerPresenter update(@RequestBody ServerRegisterInput input) {
@@ -61,6 +235,18 @@ public class ServerController {
     return ServerPresenter.from(server);
   }
 
+  /**
+   * Changes only the fields present in the body, e.g. just the status, in a single UPDATE.
+   *
+   * @param input the fields to change, with the server's id and the {@code version} last read
+   * @return the server after the change, with its new version
+   */
+  @PatchMapping("/update")
+  @PreAuthorize("hasRole('USER')")
+  public ServerPresenter patch(@RequestBody ServerPatchInput input) {
+    return serverService.patch(input);
+  }
+
   @DeleteMapping("/delete")
   @PreAuthorize("hasRole('USER')")
   public String delete(@RequestParam Long id) {
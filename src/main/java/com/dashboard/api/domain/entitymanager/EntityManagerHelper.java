@@ -91,4 +91,15 @@ public class EntityManagerHelper {
     }
     return ids.stream().map(id -> entityManager.getReference(entityClass, id)).toList();
   }
+
+  /**
+   * Flushes pending changes and detaches every managed entity from the persistence context.
+   *
+   * <p>Meant for batch writers, so the persistence context doesn't grow with the number of rows
+   * written. Must be called inside a transaction.
+   */
+  public void flushAndClear() {
+    entityManager.flush();
+    entityManager.clear();
+  }
 }
@@ -0,0 +1,24 @@
+package com.dashboard.api.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown to indicate that a request is malformed, e.g. a missing field, an invalid
+ * cursor or an unsupported parameter value.
+ *
+ * <p>This exception is annotated with {@link ResponseStatus} to automatically return a {@link
+ * HttpStatus#BAD_REQUEST} (400) HTTP response when thrown in a Spring MVC controller. Its message
+ * is sent to the client, so it must describe the request, not the server's internals.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST) // Sends 400 response
+public class BadRequestException extends RuntimeException {
+
+  public BadRequestException(String message) {
+    super(message);
+  }
+
+  public BadRequestException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
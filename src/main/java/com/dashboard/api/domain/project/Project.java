@@ -2,6 +2,7 @@ package com.dashboard.api.domain.project;
 
 import com.dashboard.api.domain.projectstatus.ProjectStatus;
 import com.dashboard.api.domain.server.Server;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -9,15 +10,19 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -27,8 +32,15 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  * creation and last update timestamps via Spring Data JPA auditing.
  */
 @Entity
-@Table(name = "projects")
+@Table(
+    name = "projects",
+    indexes = {
+      @Index(name = "idx_projects_updated_at_id", columnList = "updated_at, id"),
+      @Index(name = "idx_projects_created_at_id", columnList = "created_at, id")
+    })
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 public class Project {
 
   @Id
@@ -39,6 +51,7 @@ public class Project {
   private String name;
 
   @ManyToMany(fetch = FetchType.EAGER)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project_servers")
   @JoinTable(
       name = "project_servers",
       joinColumns = @JoinColumn(name = "project_id"),
@@ -60,6 +73,10 @@ public class Project {
   @Column(name = "updated_at")
   private Instant updatedAt;
 
+  @Version
+  @Column(nullable = false, columnDefinition = "bigint default 0")
+  private long version;
+
   public Project() {}
 
   public Project(Long id, String name) {
@@ -190,6 +207,10 @@ public class Project {
     return updatedAt;
   }
 
+  public long getVersion() {
+    return version;
+  }
+
   /**
    * Builds the {@link Project} instance using provided values.
    *
@@ -1,5 +1,6 @@
 package com.dashboard.api.domain.projectstatus;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -7,6 +8,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.Instant;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 
@@ -18,6 +21,8 @@ import org.springframework.data.annotation.LastModifiedDate;
  */
 @Entity
 @Table(name = "project_statuses")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "project_statuses")
 public class ProjectStatus {
 
   @Id
@@ -3,6 +3,7 @@ package com.dashboard.api.domain.server;
 import com.dashboard.api.domain.region.Region;
 import com.dashboard.api.domain.serverstatus.ServerStatus;
 import com.dashboard.api.domain.servertype.ServerType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -10,10 +11,14 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.Instant;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -30,8 +35,16 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  * consistency and validation.
  */
 @Entity
-@Table(name = "servers")
+@Table(
+    name = "servers",
+    indexes = {
+      @Index(name = "idx_servers_updated_at_id", columnList = "updated_at, id"),
+      @Index(name = "idx_servers_created_at_id", columnList = "created_at, id"),
+      @Index(name = "idx_servers_dimensions", columnList = "region_id, type_id, status_id, active")
+    })
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "servers")
 public class Server {
 
   @Id
@@ -63,6 +76,10 @@ public class Server {
   @Column(name = "updated_at")
   private Instant updatedAt;
 
+  @Version
+  @Column(nullable = false, columnDefinition = "bigint default 0")
+  private long version;
+
   /** JPA-only constructor. Do not use directly. */
   protected Server() {}
 
@@ -149,6 +166,10 @@ public class Server {
     return updatedAt;
   }
 
+  public long getVersion() {
+    return version;
+  }
+
   /**
    * Builder class for flexible construction of {@link Server} instances.
    *
@@ -0,0 +1,172 @@
+package com.dashboard.api.infrastructure.diagnostics;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records carrier-thread pinning of virtual threads through the JFR {@code jdk.VirtualThreadPinned}
+ * event.
+ *
+ * <p>A virtual thread that blocks while holding a monitor (a {@code synchronized} block, for
+ * instance inside a JDBC driver) or inside a native frame keeps its carrier thread busy, which
+ * quietly brings back the limits of a platform-thread pool. When {@code
+ * spring.threads.virtual.enabled} is set, this monitor streams the pinning events that last longer
+ * than {@code diagnostics.pinning.threshold}, groups them by stack site and logs the first event
+ * of each site with its stack trace. The totals are served by {@link #report()}.
+ */
+@Component
+public class PinningMonitor {
+  private static final Logger logger = LoggerFactory.getLogger(PinningMonitor.class);
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final String APPLICATION_PACKAGE = "com.dashboard.api.";
+  private static final int MAX_REPORTED_SITES = 20;
+
+  private final boolean enabled;
+  private final Duration threshold;
+  private final LongAdder events = new LongAdder();
+  private final LongAdder pinnedNanos = new LongAdder();
+  private final Map<String, SiteStats> sites = new ConcurrentHashMap<>();
+
+  private RecordingStream stream;
+
+  /**
+   * Constructs the monitor.
+   *
+   * @param virtualThreads whether request handling runs on virtual threads
+   * @param threshold the minimum pin duration that is recorded
+   */
+  public PinningMonitor(
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+      @Value("${diagnostics.pinning.threshold:PT0.02S}") Duration threshold) {
+    this.enabled = virtualThreads;
+    this.threshold = threshold;
+  }
+
+  /** Starts streaming pinning events, when virtual threads are enabled. */
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void start() {
+    if (!enabled || stream != null) {
+      return;
+    }
+
+    stream = new RecordingStream();
+    stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    stream.onEvent(PINNED_EVENT, this::record);
+    stream.startAsync();
+  }
+
+  /** Stops the event stream. */
+  @PreDestroy
+  public synchronized void stop() {
+    if (stream != null) {
+      stream.close();
+      stream = null;
+    }
+  }
+
+  private void record(RecordedEvent event) {
+    long nanos = event.getDuration().toNanos();
+    events.increment();
+    pinnedNanos.add(nanos);
+
+    List<RecordedFrame> frames =
+        event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+    String frame = frames.isEmpty() ? "<unknown>" : describe(frames.get(0));
+    String applicationFrame =
+        frames.stream()
+            .filter(f -> f.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+            .findFirst()
+            .map(PinningMonitor::describe)
+            .orElse(null);
+
+    String key = frame + " <- " + applicationFrame;
+    SiteStats stats = sites.get(key);
+    if (stats == null) {
+      SiteStats created = new SiteStats(frame, applicationFrame);
+      stats = sites.putIfAbsent(key, created);
+      if (stats == null) {
+        stats = created;
+        logger.warn(
+            "Virtual thread pinned for {} ms at {} (from {}):\n{}",
+            Duration.ofNanos(nanos).toMillis(),
+            frame,
+            applicationFrame,
+            event.getStackTrace());
+      }
+    }
+    stats.add(nanos);
+  }
+
+  private static String describe(RecordedFrame frame) {
+    return frame.getMethod().getType().getName()
+        + "."
+        + frame.getMethod().getName()
+        + ":"
+        + frame.getLineNumber();
+  }
+
+  /**
+   * Returns the pinning observed since startup.
+   *
+   * @return the pinning report
+   */
+  public PinningReport report() {
+    List<PinningReport.Site> reported =
+        sites.values().stream()
+            .map(SiteStats::toSite)
+            .sorted(Comparator.comparingLong(PinningReport.Site::events).reversed())
+            .limit(MAX_REPORTED_SITES)
+            .toList();
+    return new PinningReport(
+        enabled,
+        threshold.toMillis(),
+        events.sum(),
+        Duration.ofNanos(pinnedNanos.sum()).toMillis(),
+        reported);
+  }
+
+  /** Running totals of a single pinning site. */
+  private static class SiteStats {
+    private final String frame;
+    private final String applicationFrame;
+    private final LongAdder events = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    SiteStats(String frame, String applicationFrame) {
+      this.frame = frame;
+      this.applicationFrame = applicationFrame;
+    }
+
+    void add(long nanos) {
+      events.increment();
+      pinnedNanos.add(nanos);
+      maxNanos.accumulate(nanos);
+    }
+
+    PinningReport.Site toSite() {
+      return new PinningReport.Site(
+          frame,
+          applicationFrame,
+          events.sum(),
+          Duration.ofNanos(pinnedNanos.sum()).toMillis(),
+          Duration.ofNanos(maxNanos.get()).toMillis());
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.dashboard.api.infrastructure.diagnostics;
+
+import java.util.List;
+
+/**
+ * Summary of the carrier-thread pinning observed since startup.
+ *
+ * @param enabled whether request handling runs on virtual threads and pinning is being recorded
+ * @param thresholdMillis the minimum pin duration that is recorded
+ * @param events the number of pinning events recorded
+ * @param pinnedMillis the total time virtual threads spent pinned
+ * @param sites the places where pinning happened, most frequent first
+ */
+public record PinningReport(
+    boolean enabled, long thresholdMillis, long events, long pinnedMillis, List<Site> sites) {
+
+  /**
+   * A place where virtual threads got pinned.
+   *
+   * @param frame the top frame of the pinned stack, usually inside a library
+   * @param applicationFrame the first frame of this application in the stack, if any
+   * @param events the number of pinning events at this place
+   * @param pinnedMillis the total pin duration at this place
+   * @param maxMillis the longest single pin at this place
+   */
+  public record Site(
+      String frame, String applicationFrame, long events, long pinnedMillis, long maxMillis) {}
+}
@@ -0,0 +1,189 @@
+package com.dashboard.api.infrastructure.events;
+
+import com.dashboard.api.service.events.ChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans {@link ChangeEvent}s out to the dashboards connected to {@code /events}.
+ *
+ * <p>Events are received after the publishing transaction commits, serialized once, and offered
+ * to a bounded queue per subscriber ({@code events.subscriber-buffer} messages). Publishing never
+ * blocks: each subscriber is drained by its own sender task on a virtual thread, so a client that
+ * reads slowly only delays itself. A subscriber whose queue is full is dropped and its stream
+ * closed; the browser's {@code EventSource} reconnects and the dashboard reloads its data. A
+ * comment is sent every {@code events.heartbeat-interval} so dead connections are noticed.
+ */
+@Component
+public class ChangeBroadcaster {
+  private static final Logger logger = LoggerFactory.getLogger(ChangeBroadcaster.class);
+
+  private final ObjectMapper objectMapper;
+  private final int bufferSize;
+  private final Duration timeout;
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+  private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+  private final AtomicLong sequence = new AtomicLong();
+  private final Counter dropped;
+
+  /**
+   * Constructs the broadcaster.
+   *
+   * @param objectMapper the mapper used to serialize each event once
+   * @param meterRegistry the registry receiving the subscriber gauge and the dropped counter
+   * @param bufferSize the number of pending messages a subscriber may fall behind by
+   * @param timeout how long a stream stays open before the client has to reconnect
+   */
+  public ChangeBroadcaster(
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${events.subscriber-buffer:256}") int bufferSize,
+      @Value("${events.timeout:PT30M}") Duration timeout) {
+    this.objectMapper = objectMapper;
+    this.bufferSize = bufferSize;
+    this.timeout = timeout;
+    Gauge.builder("events.subscribers", subscribers, Set::size).register(meterRegistry);
+    this.dropped = Counter.builder("events.subscribers.dropped").register(meterRegistry);
+  }
+
+  /**
+   * Opens a stream for a new subscriber.
+   *
+   * @return the emitter the subscriber's events are sent through
+   */
+  public SseEmitter subscribe() {
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    Subscriber subscriber = new Subscriber(emitter);
+    emitter.onCompletion(() -> subscribers.remove(subscriber));
+    emitter.onTimeout(emitter::complete);
+    emitter.onError(error -> subscribers.remove(subscriber));
+    subscribers.add(subscriber);
+    return emitter;
+  }
+
+  /**
+   * Broadcasts a change once the transaction that made it has committed, or right away when it
+   * was made outside a transaction.
+   *
+   * @param event the change
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onChange(ChangeEvent event) {
+    if (subscribers.isEmpty()) {
+      return;
+    }
+
+    String json;
+    try {
+      json = objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      logger.warn("Couldn't serialize {} event for {}", event.name(), event.id(), e);
+      return;
+    }
+
+    broadcast(new Message(sequence.incrementAndGet(), event.name(), json));
+  }
+
+  @Scheduled(
+      fixedDelayString = "${events.heartbeat-interval:PT15S}",
+      initialDelayString = "${events.heartbeat-interval:PT15S}")
+  void heartbeat() {
+    broadcast(Message.HEARTBEAT);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    subscribers.clear();
+    senders.shutdownNow();
+  }
+
+  private void broadcast(Message message) {
+    for (Subscriber subscriber : subscribers) {
+      subscriber.offer(message);
+    }
+  }
+
+  private void drop(Subscriber subscriber) {
+    if (subscribers.remove(subscriber)) {
+      dropped.increment();
+      // The sender may be blocked on the slow socket while holding the emitter, so don't wait.
+      senders.execute(subscriber.emitter::complete);
+    }
+  }
+
+  /** A message waiting in a subscriber's queue; the heartbeat is sent as an SSE comment. */
+  private record Message(long id, String name, String json) {
+    static final Message HEARTBEAT = new Message(0, null, null);
+
+    SseEmitter.SseEventBuilder toEvent() {
+      if (this == HEARTBEAT) {
+        return SseEmitter.event().comment("heartbeat");
+      }
+      return SseEmitter.event()
+          .id(Long.toString(id))
+          .name(name)
+          .data(json, MediaType.APPLICATION_JSON);
+    }
+  }
+
+  /** A connected dashboard, with its pending messages and the flag of its sender task. */
+  private class Subscriber {
+    private final SseEmitter emitter;
+    private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(bufferSize);
+    private final AtomicBoolean sending = new AtomicBoolean();
+
+    Subscriber(SseEmitter emitter) {
+      this.emitter = emitter;
+    }
+
+    void offer(Message message) {
+      if (!queue.offer(message)) {
+        drop(this);
+        return;
+      }
+      if (sending.compareAndSet(false, true)) {
+        senders.execute(this::send);
+      }
+    }
+
+    private void send() {
+      try {
+        Message message;
+        while ((message = queue.poll()) != null) {
+          emitter.send(message.toEvent());
+        }
+      } catch (IOException | IllegalStateException e) {
+        subscribers.remove(this);
+        return;
+      }
+
+      sending.set(false);
+      if (!queue.isEmpty() && sending.compareAndSet(false, true)) {
+        senders.execute(this::send);
+      }
+    }
+  }
+}
@@ -1,11 +1,15 @@
 package com.dashboard.api.infrastructure.jwt;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,7 +20,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * JWT authentication filter that processes incoming HTTP requests once per request.
  *
  * <p>Extracts JWT tokens from the "Authorization" header (Bearer token) or from cookies, validates
- * the token, and sets the authentication in the security context if valid.
+ * the token, and sets the authentication in the security context if valid. Verified tokens are
+ * cached by {@link TokenProvider#authenticate(String)}, so a repeated token costs a digest and a
+ * map lookup.
  */
 public class JwtFilter extends OncePerRequestFilter {
   private static final String AUTHORIZATION_HEADER = "Authorization";
@@ -24,9 +30,27 @@ public class JwtFilter extends OncePerRequestFilter {
   private static final String BEARER_PREFIX = "Bearer ";
 
   private final TokenProvider tokenProvider;
+  private final Timer authenticatedTimer;
+  private final Timer rejectedTimer;
 
-  public JwtFilter(TokenProvider tokenProvider) {
+  /**
+   * Constructs the filter.
+   *
+   * @param tokenProvider the provider verifying the tokens
+   * @param meterRegistry the registry the {@code security.jwt.authenticate} timer is published to
+   */
+  public JwtFilter(TokenProvider tokenProvider, MeterRegistry meterRegistry) {
     this.tokenProvider = tokenProvider;
+    this.authenticatedTimer = authenticateTimer(meterRegistry, "authenticated");
+    this.rejectedTimer = authenticateTimer(meterRegistry, "rejected");
+  }
+
+  private static Timer authenticateTimer(MeterRegistry meterRegistry, String outcome) {
+    return Timer.builder("security.jwt.authenticate")
+        .description("Time spent verifying the request token")
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
   }
 
   private String extractToken(HttpServletRequest request) {
@@ -53,9 +77,13 @@ public class JwtFilter extends OncePerRequestFilter {
       @NonNull FilterChain filterChain)
       throws ServletException, IOException {
     String token = extractToken(request);
-    if (token != null && tokenProvider.validateToken(token)) {
-      Authentication authentication = tokenProvider.setAuthentication(token);
-      SecurityContextHolder.getContext().setAuthentication(authentication);
+    if (token != null) {
+      long start = System.nanoTime();
+      Optional<Authentication> authentication = tokenProvider.authenticate(token);
+      (authentication.isPresent() ? authenticatedTimer : rejectedTimer)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      authentication.ifPresent(
+          authenticated -> SecurityContextHolder.getContext().setAuthentication(authenticated));
     }
 
     filterChain.doFilter(request, response);
@@ -1,13 +1,24 @@
 package com.dashboard.api.infrastructure.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -21,6 +32,12 @@ import org.springframework.stereotype.Service;
  *
  * <p>Uses configured secret key, issuer, and expiration time to generate tokens and extract
  * authentication information.
+ *
+ * <p>The signing key and the parser are built once. Tokens that pass verification are remembered,
+ * keyed by their SHA-256 digest, together with the {@link Authentication} built from their claims
+ * until the token's own expiration; a request that presents the same token again skips the HMAC
+ * check and the JSON parsing. The cache holds at most {@code
+ * security.jwt.verified-token-cache-size} tokens.
  */
 @Service
 public class TokenProvider {
@@ -34,13 +51,39 @@ public class TokenProvider {
   @Value("${security.jwt.expiry-time-in-seconds}")
   private Long expirationTimeInSeconds;
 
+  @Value("${security.jwt.verified-token-cache-size:10000}")
+  private long verifiedTokenCacheSize;
+
+  private SecretKey secretKey;
+
+  private JwtParser parser;
+
+  private Cache<String, VerifiedToken> verifiedTokens;
+
+  /** A token that passed verification, with the authentication built from its claims. */
+  private record VerifiedToken(Authentication authentication, Instant expiresAt) {}
+
+  /** Builds the signing key, the parser and the verified-token cache from the configuration. */
+  @PostConstruct
+  void init() {
+    secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    parser = Jwts.parser().verifyWith(secretKey).build();
+    verifiedTokens =
+        Caffeine.newBuilder()
+            .maximumSize(verifiedTokenCacheSize)
+            .expireAfter(
+                Expiry.<String, VerifiedToken>creating(
+                    (digest, verified) -> Duration.between(Instant.now(), verified.expiresAt())))
+            .build();
+  }
+
   /**
    * Retrieves the secret key used for signing and verifying JWT tokens.
    *
    * @return the secret key
    */
   private SecretKey getSecretKey() {
-    return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    return secretKey;
   }
 
   /**
@@ -50,7 +93,27 @@ public class TokenProvider {
    * @return the claims contained in the token
    */
   private Claims parseClaimsFromToken(String token) {
-    return Jwts.parser().verifyWith(getSecretKey()).build().parseSignedClaims(token).getPayload();
+    return parser.parseSignedClaims(token).getPayload();
+  }
+
+  private static String digest(String token) {
+    try {
+      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private static Authentication toAuthentication(Claims payload) {
+    @SuppressWarnings("unchecked")
+    List<String> authorities = payload.get("authorities", ArrayList.class);
+    String username = payload.getSubject();
+
+    List<SimpleGrantedAuthority> grantedAuthorities =
+        authorities.stream().map(SimpleGrantedAuthority::new).toList();
+
+    return new UsernamePasswordAuthenticationToken(username, "", grantedAuthorities);
   }
 
   /**
@@ -96,14 +159,37 @@ public class TokenProvider {
    * @return an Authentication object representing the authenticated user
    */
   public Authentication setAuthentication(String token) {
-    Claims payload = parseClaimsFromToken(token);
-    @SuppressWarnings("unchecked")
-    List<String> authorities = payload.get("authorities", ArrayList.class);
-    String username = payload.getSubject();
+    return toAuthentication(parseClaimsFromToken(token));
+  }
 
-    List<SimpleGrantedAuthority> grantedAuthorities =
-        authorities.stream().map(SimpleGrantedAuthority::new).toList();
+  /**
+   * Verifies a JWT token and returns the authentication it carries.
+   *
+   * <p>A token that was already verified and hasn't expired is answered from the cache, without
+   * checking the signature or parsing the claims again.
+   *
+   * @param token the JWT token string
+   * @return the authentication of the token, or empty if the token is invalid or expired
+   */
+  public Optional<Authentication> authenticate(String token) {
+    String digest = digest(token);
+    VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+    if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+      return Optional.of(cached.authentication());
+    }
 
-    return new UsernamePasswordAuthenticationToken(username, "", grantedAuthorities);
+    Claims payload;
+    try {
+      payload = parseClaimsFromToken(token);
+    } catch (JwtException e) {
+      return Optional.empty();
+    }
+
+    Authentication authentication = toAuthentication(payload);
+    if (payload.getExpiration() != null) {
+      verifiedTokens.put(
+          digest, new VerifiedToken(authentication, payload.getExpiration().toInstant()));
+    }
+    return Optional.of(authentication);
   }
 }
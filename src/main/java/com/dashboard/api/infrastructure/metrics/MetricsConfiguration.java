@@ -0,0 +1,31 @@
+package com.dashboard.api.infrastructure.metrics;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics configuration.
+ *
+ * <p>Most meters come from Spring Boot's auto-configuration: {@code http.server.requests} for
+ * every controller method, {@code spring.data.repository.invocations} for every repository method,
+ * the Hikari pool gauges and, with {@code hibernate.generate_statistics}, the Hibernate statistics
+ * (statements, entity loads, second-level cache hits and misses). This class adds the aspect that
+ * turns {@link io.micrometer.observation.annotation.Observed} service classes into {@code
+ * dashboard.service} timers. Everything is scraped from {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+  /**
+   * Enables {@link io.micrometer.observation.annotation.Observed} on Spring beans.
+   *
+   * @param observationRegistry the registry the observations are reported to
+   * @return the aspect
+   */
+  @Bean
+  public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+    return new ObservedAspect(observationRegistry);
+  }
+}
@@ -2,6 +2,7 @@ package com.dashboard.api.infrastructure.security;
 
 import com.dashboard.api.infrastructure.jwt.JwtFilter;
 import com.dashboard.api.infrastructure.jwt.TokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,14 +29,17 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfiguration {
 
   private final TokenProvider tokenProvider;
+  private final MeterRegistry meterRegistry;
 
   /**
    * Constructs the security configuration with a TokenProvider.
    *
    * @param tokenProvider the JWT token provider for authentication filtering
+   * @param meterRegistry the registry the JWT filter and password encoder timers are published to
    */
-  public SecurityConfiguration(TokenProvider tokenProvider) {
+  public SecurityConfiguration(TokenProvider tokenProvider, MeterRegistry meterRegistry) {
     this.tokenProvider = tokenProvider;
+    this.meterRegistry = meterRegistry;
   }
 
   /**
@@ -47,11 +51,11 @@ public class SecurityConfiguration {
   public CorsConfigurationSource corsConfigurationSource() {
     CorsConfiguration config = new CorsConfiguration();
     config.setAllowedOrigins(List.of("http://localhost:5173", "http://127.0.0.1:5173"));
-    config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+    config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
     config.setAllowedHeaders(List.of("*"));
     config.setAllowCredentials(true);
     config.setMaxAge(3600L);
-    config.setExposedHeaders(List.of("Set-Cookie", "Authorization"));
+    config.setExposedHeaders(List.of("Set-Cookie", "Authorization", "ETag"));
     config.setAllowPrivateNetwork(true);
 
     UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -64,8 +68,8 @@ public class SecurityConfiguration {
    *
    * <p>Disables CSRF, form login, and HTTP basic auth. Enables CORS and stateless session
    * management. Adds JWT filter before username-password authentication filter. Permits
-   * unauthenticated access to login, register, and Swagger docs endpoints. Secures all other
-   * requests.
+   * unauthenticated access to login, register, Swagger docs, health and Prometheus scrape
+   * endpoints. Secures all other requests.
    *
    * @param http the HttpSecurity to configure
    * @return the configured SecurityFilterChain
@@ -77,7 +81,8 @@ public class SecurityConfiguration {
         .cors(Customizer.withDefaults())
         .sessionManagement(
             session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-        .addFilterBefore(new JwtFilter(tokenProvider), UsernamePasswordAuthenticationFilter.class)
+        .addFilterBefore(
+            new JwtFilter(tokenProvider, meterRegistry), UsernamePasswordAuthenticationFilter.class)
         .formLogin(form -> form.disable())
         .httpBasic(basic -> basic.disable())
         .authorizeHttpRequests(
@@ -90,6 +95,8 @@ public class SecurityConfiguration {
                     .requestMatchers(
                         "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/apidocs.html")
                     .permitAll()
+                    .requestMatchers("/actuator/health", "/actuator/prometheus")
+                    .permitAll()
                     .anyRequest()
                     .authenticated());
 
@@ -97,13 +104,14 @@ public class SecurityConfiguration {
   }
 
   /**
-   * Password encoder bean that uses BCrypt hashing algorithm.
+   * Password encoder bean that uses BCrypt hashing algorithm, timed by {@link
+   * TimedPasswordEncoder}.
    *
    * @return a PasswordEncoder instance
    */
   @Bean
   public PasswordEncoder defaultPasswordEncoder() {
-    return new BCryptPasswordEncoder();
+    return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
   }
 
   /**
@@ -0,0 +1,55 @@
+package com.dashboard.api.infrastructure.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} decorator that times the hashing done on register, login and password
+ * changes.
+ *
+ * <p>BCrypt is deliberately slow, so its cost shows up directly in the latency of those endpoints;
+ * the {@code security.password.encode} and {@code security.password.matches} timers make it
+ * visible on its own.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+  private final PasswordEncoder delegate;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+
+  /**
+   * Wraps a password encoder.
+   *
+   * @param delegate the encoder doing the actual work
+   * @param meterRegistry the registry the timers are published to
+   */
+  public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.encodeTimer =
+        Timer.builder("security.password.encode")
+            .description("Time spent hashing a new password")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    this.matchesTimer =
+        Timer.builder("security.password.matches")
+            .description("Time spent checking a password against its hash")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return encodeTimer.record(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+}
@@ -0,0 +1,136 @@
+package com.dashboard.api.infrastructure.sql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements executed on the current thread.
+ *
+ * <p>Counting happens inside a {@link Scope}: the statement filter opens one per HTTP request and
+ * tests can open their own around a call. Scopes nest, and a statement is counted by every scope
+ * open on the thread. Each scope also keeps how many times each statement text ran, so a report
+ * can point at the query that repeats, which is what an N+1 looks like. Work a request forks onto
+ * other threads is counted by its scopes when the task is wrapped with {@link #propagate}.
+ */
+@Component
+public class SqlStatementCounter {
+  private static final int MAX_TRACKED_SHAPES = 100;
+  private static final int MAX_REPORTED_SHAPES = 10;
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+  private static final Pattern NUMBER = Pattern.compile("\\b\\d+\\b");
+
+  private final ThreadLocal<Scope> current = new ThreadLocal<>();
+
+  /**
+   * Opens a counting scope on the current thread. It must be closed on the same thread.
+   *
+   * @return the new scope
+   */
+  public Scope open() {
+    Scope scope = new Scope(current.get());
+    current.set(scope);
+    return scope;
+  }
+
+  /**
+   * Wraps a task so the statements it runs, on whichever thread, are counted by the scopes open on
+   * the calling thread, e.g. the branches a request runs concurrently.
+   *
+   * @param task the task to run on another thread
+   * @param <T> the result type of the task
+   * @return the wrapped task, or {@code task} itself if no scope is open
+   */
+  public <T> Callable<T> propagate(Callable<T> task) {
+    Scope scope = current.get();
+    if (scope == null) {
+      return task;
+    }
+    return () -> {
+      Scope previous = current.get();
+      current.set(scope);
+      try {
+        return task.call();
+      } finally {
+        if (previous == null) {
+          current.remove();
+        } else {
+          current.set(previous);
+        }
+      }
+    };
+  }
+
+  /**
+   * Records a statement in every scope open on the current thread.
+   *
+   * @param sql the statement text
+   */
+  void record(String sql) {
+    for (Scope scope = current.get(); scope != null; scope = scope.parent) {
+      scope.add(sql);
+    }
+  }
+
+  /**
+   * The statements executed on a thread between {@link #open()} and {@link #close()}, and by the
+   * tasks {@linkplain #propagate propagated} from it, which may record concurrently.
+   */
+  public final class Scope implements AutoCloseable {
+    private final Scope parent;
+    private final Map<String, Integer> shapes = new ConcurrentHashMap<>();
+    private final AtomicInteger count = new AtomicInteger();
+
+    private Scope(Scope parent) {
+      this.parent = parent;
+    }
+
+    private void add(String sql) {
+      count.incrementAndGet();
+      if (shapes.size() < MAX_TRACKED_SHAPES || shapes.containsKey(sql)) {
+        shapes.merge(sql, 1, Integer::sum);
+      }
+    }
+
+    public int count() {
+      return count.get();
+    }
+
+    /**
+     * Describes the most frequent statement shapes of the scope, one per line, with literals and
+     * {@code IN} lists collapsed.
+     *
+     * @return the description
+     */
+    public String describe() {
+      Map<String, Integer> normalized = new LinkedHashMap<>();
+      shapes.forEach((sql, times) -> normalized.merge(normalize(sql), times, Integer::sum));
+      return normalized.entrySet().stream()
+          .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+          .limit(MAX_REPORTED_SHAPES)
+          .map(shape -> String.format("%5dx %s", shape.getValue(), shape.getKey()))
+          .collect(Collectors.joining("\n"));
+    }
+
+    @Override
+    public void close() {
+      if (parent == null) {
+        current.remove();
+      } else {
+        current.set(parent);
+      }
+    }
+  }
+
+  private static String normalize(String sql) {
+    String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+    shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+    return NUMBER.matcher(shape).replaceAll("?");
+  }
+}
@@ -0,0 +1,173 @@
+package com.dashboard.api.infrastructure.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the SQL statements run by each HTTP request and checks them against the endpoint's
+ * budget.
+ *
+ * <p>The count is sent in the {@value #STATEMENT_COUNT_HEADER} response header, as it stands when
+ * the response is committed, and recorded in full in the {@code sql.statements.per.request}
+ * summary. A request that goes over the budget of its endpoint (see {@link
+ * StatementBudgetProperties}) increments {@code sql.statement.budget.exceeded} and logs a warning
+ * with the statements it repeated most.
+ *
+ * <p>Counting follows the request thread, and the tasks it forks through {@link
+ * SqlStatementCounter#propagate}. Asynchronous requests, such as the {@code StreamingResponseBody}
+ * exports and streams, run their queries on another thread after the request thread left this
+ * filter, so they get no header, no metric and no budget check rather than a count of 0.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class StatementBudgetFilter extends OncePerRequestFilter {
+  public static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+
+  private static final Logger logger = LoggerFactory.getLogger(StatementBudgetFilter.class);
+
+  private final SqlStatementCounter counter;
+  private final StatementBudgetProperties budgets;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Constructs the filter.
+   *
+   * @param counter the statement counter
+   * @param budgets the per-endpoint budgets
+   * @param meterRegistry the registry the statement metrics are published to
+   */
+  public StatementBudgetFilter(
+      SqlStatementCounter counter, StatementBudgetProperties budgets, MeterRegistry meterRegistry) {
+    this.counter = counter;
+    this.budgets = budgets;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    try (SqlStatementCounter.Scope scope = counter.open()) {
+      CountingResponse countingResponse = new CountingResponse(request, response, scope);
+      try {
+        filterChain.doFilter(request, countingResponse);
+      } finally {
+        countingResponse.stamp();
+        if (!request.isAsyncStarted()) {
+          check(request, scope);
+        }
+      }
+    }
+  }
+
+  private void check(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+    String endpoint = request.getMethod() + " " + uri;
+
+    DistributionSummary.builder("sql.statements.per.request")
+        .description("SQL statements executed by a single HTTP request")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(scope.count());
+
+    int budget = budgets.budgetOf(endpoint);
+    if (scope.count() <= budget) {
+      return;
+    }
+
+    Counter.builder("sql.statement.budget.exceeded")
+        .description("Requests that ran more SQL statements than their endpoint's budget")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .register(meterRegistry)
+        .increment();
+    logger.warn(
+        "{} ran {} SQL statements, over its budget of {}. Most repeated:\n{}",
+        endpoint,
+        scope.count(),
+        budget,
+        scope.describe());
+  }
+
+  /**
+   * Response that sends the statement count header right before the response is committed, unless
+   * the request went asynchronous and the count would miss the statements still to come.
+   */
+  private static class CountingResponse extends HttpServletResponseWrapper {
+    private final HttpServletRequest request;
+    private final SqlStatementCounter.Scope scope;
+    private boolean stamped;
+
+    CountingResponse(
+        HttpServletRequest request, HttpServletResponse response, SqlStatementCounter.Scope scope) {
+      super(response);
+      this.request = request;
+      this.scope = scope;
+    }
+
+    void stamp() {
+      if (!stamped && !isCommitted() && !request.isAsyncStarted()) {
+        setIntHeader(STATEMENT_COUNT_HEADER, scope.count());
+      }
+      stamped = true;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      stamp();
+      return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      stamp();
+      return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      stamp();
+      super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+      stamp();
+      super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+      stamp();
+      super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+      stamp();
+      super.sendRedirect(location);
+    }
+  }
+}
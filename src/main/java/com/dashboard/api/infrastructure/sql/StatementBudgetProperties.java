@@ -0,0 +1,27 @@
+package com.dashboard.api.infrastructure.sql;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Per-request SQL statement budgets, under {@code sql.statement-budget}.
+ *
+ * @param defaultBudget the budget of endpoints not listed in {@code endpoints}
+ * @param endpoints budgets keyed by {@code "METHOD /path/pattern"}, for example {@code
+ *     sql.statement-budget.endpoints[GET /server/getAll]=1}
+ */
+@ConfigurationProperties("sql.statement-budget")
+public record StatementBudgetProperties(
+    @DefaultValue("20") int defaultBudget, Map<String, Integer> endpoints) {
+
+  /**
+   * Returns the budget of an endpoint.
+   *
+   * @param endpoint the endpoint, as {@code "METHOD /path/pattern"}
+   * @return the maximum number of statements a request to it should run
+   */
+  public int budgetOf(String endpoint) {
+    return endpoints == null ? defaultBudget : endpoints.getOrDefault(endpoint, defaultBudget);
+  }
+}
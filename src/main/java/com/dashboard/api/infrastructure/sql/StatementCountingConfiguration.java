@@ -0,0 +1,43 @@
+package com.dashboard.api.infrastructure.sql;
+
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wraps the application {@link DataSource} so that every executed statement is reported to the
+ * {@link SqlStatementCounter}.
+ */
+@Configuration
+@EnableConfigurationProperties(StatementBudgetProperties.class)
+public class StatementCountingConfiguration {
+
+  /**
+   * Post-processor replacing each data source with a counting proxy.
+   *
+   * @param counter the counter, looked up lazily so the post-processor can be created early
+   * @return the post-processor
+   */
+  @Bean
+  public static BeanPostProcessor statementCountingDataSourcePostProcessor(
+      ObjectProvider<SqlStatementCounter> counter) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)) {
+          return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+            .name(beanName)
+            .afterQuery(
+                (execution, queries) ->
+                    queries.forEach(query -> counter.getObject().record(query.getQuery())))
+            .build();
+      }
+    };
+  }
+}
@@ -0,0 +1,12 @@
+package com.dashboard.api.persistence.jpa.project;
+
+import java.time.Instant;
+
+/**
+ * Name and last change of a project, read by {@link ProjectRepository#findAllNames()}.
+ *
+ * @param id the id of the project
+ * @param name the name of the project
+ * @param updatedAt when the project was last updated, or created if it never was
+ */
+public record ProjectNameView(Long id, String name, Instant updatedAt) {}
@@ -1,10 +1,18 @@
 package com.dashboard.api.persistence.jpa.project;
 
 import com.dashboard.api.domain.project.Project;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,9 +20,22 @@ import org.springframework.stereotype.Repository;
  *
  * <p>Extends JpaRepository to provide standard CRUD operations, with additional custom queries to
  * find projects by name, check existence by name, and verify server associations.
+ *
+ * <p>Read paths return {@link ProjectView} projections, and the servers of a batch of projects are
+ * read with one query through {@link #findServerViewsByProjectIdIn}, so a listing costs a fixed
+ * number of statements. The {@code findPage*} queries implement keyset pagination: the {@link
+ * Pageable} only carries the page size, and the position is given by the last row seen.
  */
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+  String VIEW_SELECT =
+      """
+      SELECT new com.dashboard.api.persistence.jpa.project.ProjectView(
+        p.id, p.name, p.details, ps.name, p.createdAt, p.updatedAt, p.version)
+      FROM Project p
+      JOIN p.status ps
+      """;
+
   Optional<Project> getByName(String name);
 
   @Query("SELECT p.id FROM Project p WHERE p.name = :name")
@@ -32,4 +53,103 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
           """,
       nativeQuery = true)
   boolean existsByNameAndServerIds(Long projectId, List<Long> serverIds);
+
+  @Query(
+      """
+      SELECT CASE WHEN COUNT(s) > 0 THEN TRUE ELSE FALSE END
+      FROM Project p
+      JOIN p.servers s
+      WHERE p.name = :name
+      AND s.id IN :serverIds
+      """)
+  boolean existsServerInProjectNamed(
+      @Param("name") String name, @Param("serverIds") Collection<Long> serverIds);
+
+  @Query(VIEW_SELECT + "WHERE p.id = :id")
+  Optional<ProjectView> findViewById(@Param("id") Long id);
+
+  @Query(VIEW_SELECT)
+  List<ProjectView> findAllViews();
+
+  @Query(VIEW_SELECT + "ORDER BY p.id")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  Stream<ProjectView> streamAllViews();
+
+  @Query(
+      """
+      SELECT new com.dashboard.api.persistence.jpa.project.ProjectServerView(
+        p.id, s.id, s.name, s.active, t.name, st.name, r.name, s.createdAt, s.updatedAt,
+        s.version)
+      FROM Project p
+      JOIN p.servers s
+      JOIN s.serverType t
+      JOIN s.status st
+      JOIN s.region r
+      WHERE p.id IN :projectIds
+      """)
+  List<ProjectServerView> findServerViewsByProjectIdIn(
+      @Param("projectIds") Collection<Long> projectIds);
+
+  @Query(
+      """
+      SELECT new com.dashboard.api.persistence.jpa.project.ProjectSummaryView(
+        p.id, p.name, ps.name, SIZE(p.servers), p.updatedAt)
+      FROM Project p
+      JOIN p.status ps
+      ORDER BY p.updatedAt DESC, p.id DESC
+      """)
+  List<ProjectSummaryView> findRecentSummaries(Pageable pageable);
+
+  @Query(
+      """
+      SELECT new com.dashboard.api.persistence.jpa.project.ProjectStatusCount(ps.name, COUNT(p))
+      FROM Project p
+      JOIN p.status ps
+      GROUP BY ps.name
+      """)
+  List<ProjectStatusCount> countByStatus();
+
+  @Query(
+      """
+      SELECT new com.dashboard.api.persistence.jpa.project.ProjectNameView(
+        p.id, p.name, COALESCE(p.updatedAt, p.createdAt))
+      FROM Project p
+      """)
+  List<ProjectNameView> findAllNames();
+
+  @Query(VIEW_SELECT + "ORDER BY p.name ASC, p.id ASC")
+  List<ProjectView> findPageOrderByName(Pageable pageable);
+
+  @Query(
+      VIEW_SELECT
+          + """
+          WHERE p.name > :name OR (p.name = :name AND p.id > :id)
+          ORDER BY p.name ASC, p.id ASC
+          """)
+  List<ProjectView> findPageAfterName(
+      @Param("name") String name, @Param("id") Long id, Pageable pageable);
+
+  @Query(VIEW_SELECT + "ORDER BY p.updatedAt DESC, p.id DESC")
+  List<ProjectView> findPageOrderByUpdatedAt(Pageable pageable);
+
+  @Query(
+      VIEW_SELECT
+          + """
+          WHERE p.updatedAt < :updatedAt OR (p.updatedAt = :updatedAt AND p.id < :id)
+          ORDER BY p.updatedAt DESC, p.id DESC
+          """)
+  List<ProjectView> findPageAfterUpdatedAt(
+      @Param("updatedAt") Instant updatedAt, @Param("id") Long id, Pageable pageable);
+
+  @Query(VIEW_SELECT + "ORDER BY p.createdAt DESC, p.id DESC")
+  List<ProjectView> findPageOrderByCreatedAt(Pageable pageable);
+
+  @Query(
+      VIEW_SELECT
+          + """
+          WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)
+          ORDER BY p.createdAt DESC, p.id DESC
+          """)
+  List<ProjectView> findPageAfterCreatedAt(
+      @Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
 }
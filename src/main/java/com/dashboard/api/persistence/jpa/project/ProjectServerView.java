@@ -0,0 +1,41 @@
+package com.dashboard.api.persistence.jpa.project;
+
+import com.dashboard.api.persistence.jpa.server.ServerView;
+import java.time.Instant;
+
+/**
+ * A row of the {@code project_servers} association, joined with the server and its lookups.
+ *
+ * @param projectId the id of the project the server belongs to
+ * @param id the server id
+ * @param name the server name
+ * @param active whether the server is active
+ * @param typeName the name of the server type
+ * @param statusName the name of the server status
+ * @param regionName the name of the server region
+ * @param createdAt when the server was created
+ * @param updatedAt when the server was last updated
+ * @param version the optimistic lock version of the server
+ */
+public record ProjectServerView(
+    Long projectId,
+    Long id,
+    String name,
+    boolean active,
+    String typeName,
+    String statusName,
+    String regionName,
+    Instant createdAt,
+    Instant updatedAt,
+    long version) {
+
+  /**
+   * Returns the server part of this row.
+   *
+   * @return the server projection
+   */
+  public ServerView server() {
+    return new ServerView(
+        id, name, active, typeName, statusName, regionName, createdAt, updatedAt, version);
+  }
+}
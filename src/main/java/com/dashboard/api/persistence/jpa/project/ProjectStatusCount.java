@@ -0,0 +1,9 @@
+package com.dashboard.api.persistence.jpa.project;
+
+/**
+ * Number of projects with a given status, read by {@link ProjectRepository#countByStatus()}.
+ *
+ * @param statusName the name of the project status
+ * @param count the number of projects
+ */
+public record ProjectStatusCount(String statusName, long count) {}
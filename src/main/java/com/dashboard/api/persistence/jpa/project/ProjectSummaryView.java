@@ -0,0 +1,16 @@
+package com.dashboard.api.persistence.jpa.project;
+
+import java.time.Instant;
+
+/**
+ * Slim, read-only projection of a project: its status and how many servers it has, without the
+ * servers themselves.
+ *
+ * @param id the project id
+ * @param name the project name
+ * @param statusName the name of the project status
+ * @param serverCount the number of servers in the project
+ * @param updatedAt when the project was last updated
+ */
+public record ProjectSummaryView(
+    Long id, String name, String statusName, int serverCount, Instant updatedAt) {}
@@ -0,0 +1,27 @@
+package com.dashboard.api.persistence.jpa.project;
+
+import java.time.Instant;
+
+/**
+ * Flat, read-only projection of a project joined with its status.
+ *
+ * <p>Built by the {@code find*View*} queries of {@link ProjectRepository}. The servers of the
+ * projects are read separately, for a whole batch of projects at once, through {@link
+ * ProjectRepository#findServerViewsByProjectIdIn}.
+ *
+ * @param id the project id
+ * @param name the project name
+ * @param details the project description
+ * @param statusName the name of the project status
+ * @param createdAt when the project was created
+ * @param updatedAt when the project was last updated
+ * @param version the optimistic lock version of the project
+ */
+public record ProjectView(
+    Long id,
+    String name,
+    String details,
+    String statusName,
+    Instant createdAt,
+    Instant updatedAt,
+    long version) {}
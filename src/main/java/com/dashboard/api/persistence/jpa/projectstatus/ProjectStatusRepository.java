@@ -1,8 +1,11 @@
 package com.dashboard.api.persistence.jpa.projectstatus;
 
 import com.dashboard.api.domain.projectstatus.ProjectStatus;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -15,6 +18,7 @@ import org.springframework.stereotype.Repository;
 public interface ProjectStatusRepository extends JpaRepository<ProjectStatus, Integer> {
   boolean existsByName(String name);
 
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Optional<ProjectStatus> findByName(String name);
 
   Optional<ProjectStatus> findByIsDefaultTrue();
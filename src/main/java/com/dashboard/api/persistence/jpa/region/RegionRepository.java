@@ -1,8 +1,11 @@
 package com.dashboard.api.persistence.jpa.region;
 
 import com.dashboard.api.domain.region.Region;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /** Repository interface for accessing Region entities. */
@@ -10,5 +13,6 @@ import org.springframework.stereotype.Repository;
 public interface RegionRepository extends JpaRepository<Region, Integer> {
   boolean existsByName(String name);
 
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Optional<Region> findByName(String name);
 }
@@ -0,0 +1,14 @@
+package com.dashboard.api.persistence.jpa.server;
+
+/**
+ * Number of servers sharing a region, type, status and active flag, read by {@link
+ * ServerRepository#countByDimensions()}.
+ *
+ * @param regionName the name of the region
+ * @param typeName the name of the server type
+ * @param statusName the name of the server status
+ * @param active whether the servers are active
+ * @param count the number of servers
+ */
+public record ServerDimensionCount(
+    String regionName, String typeName, String statusName, boolean active, long count) {}
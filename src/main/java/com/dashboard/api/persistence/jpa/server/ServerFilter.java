@@ -0,0 +1,46 @@
+package com.dashboard.api.persistence.jpa.server;
+
+import com.dashboard.api.domain.exception.BadRequestException;
+import java.time.Instant;
+
+/**
+ * Criteria of a filtered server listing. Every criterion is optional; {@code null} doesn't filter.
+ *
+ * @param regionId only servers in this region
+ * @param typeId only servers of this type
+ * @param statusId only servers with this status
+ * @param active only active or only inactive servers
+ * @param namePrefix only servers whose name starts with this, case-sensitively
+ * @param createdFrom only servers created at or after this instant
+ * @param createdTo only servers created before this instant
+ * @param updatedFrom only servers updated at or after this instant
+ * @param updatedTo only servers updated before this instant
+ */
+public record ServerFilter(
+    Integer regionId,
+    Integer typeId,
+    Integer statusId,
+    Boolean active,
+    String namePrefix,
+    Instant createdFrom,
+    Instant createdTo,
+    Instant updatedFrom,
+    Instant updatedTo) {
+
+  /**
+   * Validates the ranges and drops a blank name prefix.
+   *
+   * @throws BadRequestException if a range ends before it starts
+   */
+  public ServerFilter {
+    if (namePrefix != null && namePrefix.isBlank()) {
+      namePrefix = null;
+    }
+    if (createdFrom != null && createdTo != null && createdTo.isBefore(createdFrom)) {
+      throw new BadRequestException("createdTo must not be before createdFrom");
+    }
+    if (updatedFrom != null && updatedTo != null && updatedTo.isBefore(updatedFrom)) {
+      throw new BadRequestException("updatedTo must not be before updatedFrom");
+    }
+  }
+}
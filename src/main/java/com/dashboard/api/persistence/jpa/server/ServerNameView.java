@@ -0,0 +1,13 @@
+package com.dashboard.api.persistence.jpa.server;
+
+import java.time.Instant;
+
+/**
+ * Name and last change of a server, read by {@link ServerRepository#findAllNames()} and {@link
+ * ServerRepository#findNamesByNameIn}.
+ *
+ * @param id the id of the server
+ * @param name the name of the server
+ * @param updatedAt when the server was last updated, or created if it never was
+ */
+public record ServerNameView(Long id, String name, Instant updatedAt) {}
@@ -1,8 +1,19 @@
 package com.dashboard.api.persistence.jpa.server;
 
 import com.dashboard.api.domain.server.Server;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
@@ -10,13 +21,112 @@ import org.springframework.stereotype.Repository;
  * Repository interface for accessing Server entities.
  *
  * <p>Extends JpaRepository to provide CRUD operations, along with custom methods to check existence
- * and retrieve servers by name.
+ * and retrieve servers by name. Read paths return {@link ServerView} projections built by a single
+ * joined query. The {@code findPage*} queries implement keyset pagination: the {@link Pageable}
+ * only carries the page size, and the position is given by the last row seen. Filtered listings
+ * are built from {@link ServerSpecifications}.
  */
 @Repository
-public interface ServerRepository extends JpaRepository<Server, Long> {
+public interface ServerRepository
+    extends JpaRepository<Server, Long>, JpaSpecificationExecutor<Server> {
+  String VIEW_SELECT =
+      """
+      SELECT new com.dashboard.api.persistence.jpa.server.ServerView(
+        s.id, s.name, s.active, t.name, st.name, r.name, s.createdAt, s.updatedAt, s.version)
+      FROM Server s
+      JOIN s.serverType t
+      JOIN s.status st
+      JOIN s.region r
+      """;
+
   boolean existsByName(String name);
 
   boolean existsById(@NonNull Long id);
 
   Optional<Server> getByName(String name);
+
+  @Query("SELECT s.id FROM Server s WHERE s.id IN :ids")
+  List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+  @Query("SELECT s.name FROM Server s WHERE s.name IN :names")
+  List<String> findExistingNames(@Param("names") Collection<String> names);
+
+  @Query(VIEW_SELECT + "WHERE s.id = :id")
+  Optional<ServerView> findViewById(@Param("id") Long id);
+
+  @Query(VIEW_SELECT + "WHERE s.id IN :ids")
+  List<ServerView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query(VIEW_SELECT)
+  List<ServerView> findAllViews();
+
+  @Query(VIEW_SELECT + "ORDER BY s.id")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  Stream<ServerView> streamAllViews();
+
+  @Query(
+      """
+      SELECT new com.dashboard.api.persistence.jpa.server.ServerDimensionCount(
+        r.name, t.name, st.name, s.active, COUNT(s))
+      FROM Server s
+      JOIN s.region r
+      JOIN s.serverType t
+      JOIN s.status st
+      GROUP BY r.name, t.name, st.name, s.active
+      """)
+  List<ServerDimensionCount> countByDimensions();
+
+  @Query(
+      """
+      SELECT new com.dashboard.api.persistence.jpa.server.ServerNameView(
+        s.id, s.name, COALESCE(s.updatedAt, s.createdAt))
+      FROM Server s
+      """)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  List<ServerNameView> findAllNames();
+
+  @Query(
+      """
+      SELECT new com.dashboard.api.persistence.jpa.server.ServerNameView(
+        s.id, s.name, COALESCE(s.updatedAt, s.createdAt))
+      FROM Server s
+      WHERE s.name IN :names
+      """)
+  List<ServerNameView> findNamesByNameIn(@Param("names") Collection<String> names);
+
+  @Query(VIEW_SELECT + "ORDER BY s.name ASC, s.id ASC")
+  List<ServerView> findPageOrderByName(Pageable pageable);
+
+  @Query(
+      VIEW_SELECT
+          + """
+          WHERE s.name > :name OR (s.name = :name AND s.id > :id)
+          ORDER BY s.name ASC, s.id ASC
+          """)
+  List<ServerView> findPageAfterName(
+      @Param("name") String name, @Param("id") Long id, Pageable pageable);
+
+  @Query(VIEW_SELECT + "ORDER BY s.updatedAt DESC, s.id DESC")
+  List<ServerView> findPageOrderByUpdatedAt(Pageable pageable);
+
+  @Query(
+      VIEW_SELECT
+          + """
+          WHERE s.updatedAt < :updatedAt OR (s.updatedAt = :updatedAt AND s.id < :id)
+          ORDER BY s.updatedAt DESC, s.id DESC
+          """)
+  List<ServerView> findPageAfterUpdatedAt(
+      @Param("updatedAt") Instant updatedAt, @Param("id") Long id, Pageable pageable);
+
+  @Query(VIEW_SELECT + "ORDER BY s.createdAt DESC, s.id DESC")
+  List<ServerView> findPageOrderByCreatedAt(Pageable pageable);
+
+  @Query(
+      VIEW_SELECT
+          + """
+          WHERE s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)
+          ORDER BY s.createdAt DESC, s.id DESC
+          """)
+  List<ServerView> findPageAfterCreatedAt(
+      @Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,129 @@
+package com.dashboard.api.persistence.jpa.server;
+
+import com.dashboard.api.domain.server.Server;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Composable {@link Specification}s over {@link Server}, used by the filtered listing.
+ *
+ * <p>Region, type, status and active flag compare the foreign key columns directly, without
+ * joining, so together they're served by the {@code idx_servers_dimensions} index. The
+ * {@code *Before}/{@code *After} keyset conditions match the orderings of {@link
+ * com.dashboard.api.service.base.pagination.PageSort}.
+ */
+public class ServerSpecifications {
+
+  /**
+   * Combines every criterion of a filter.
+   *
+   * @param filter the filter
+   * @return a specification matching the servers that satisfy every criterion of the filter
+   */
+  public static Specification<Server> matching(ServerFilter filter) {
+    List<Specification<Server>> specifications = new ArrayList<>();
+    if (filter.regionId() != null) {
+      specifications.add(inRegion(filter.regionId()));
+    }
+    if (filter.typeId() != null) {
+      specifications.add(ofType(filter.typeId()));
+    }
+    if (filter.statusId() != null) {
+      specifications.add(withStatus(filter.statusId()));
+    }
+    if (filter.active() != null) {
+      specifications.add(active(filter.active()));
+    }
+    if (filter.namePrefix() != null) {
+      specifications.add(nameStartsWith(filter.namePrefix()));
+    }
+    if (filter.createdFrom() != null || filter.createdTo() != null) {
+      specifications.add(between("createdAt", filter.createdFrom(), filter.createdTo()));
+    }
+    if (filter.updatedFrom() != null || filter.updatedTo() != null) {
+      specifications.add(between("updatedAt", filter.updatedFrom(), filter.updatedTo()));
+    }
+    return Specification.allOf(specifications);
+  }
+
+  public static Specification<Server> inRegion(int regionId) {
+    return (root, query, cb) -> cb.equal(root.get("region").get("id"), regionId);
+  }
+
+  public static Specification<Server> ofType(int typeId) {
+    return (root, query, cb) -> cb.equal(root.get("serverType").get("id"), typeId);
+  }
+
+  public static Specification<Server> withStatus(int statusId) {
+    return (root, query, cb) -> cb.equal(root.get("status").get("id"), statusId);
+  }
+
+  public static Specification<Server> active(boolean active) {
+    return (root, query, cb) -> cb.equal(root.get("active"), active);
+  }
+
+  /**
+   * Matches the servers whose name starts with a prefix, case-sensitively. The prefix is matched
+   * literally: {@code %} and {@code _} in it aren't wildcards.
+   *
+   * @param prefix the name prefix
+   * @return the specification
+   */
+  public static Specification<Server> nameStartsWith(String prefix) {
+    String pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    return (root, query, cb) -> cb.like(root.get("name"), pattern, '\\');
+  }
+
+  /**
+   * Matches the servers whose timestamp is within {@code [from, to)}; either bound may be open.
+   *
+   * @param attribute the timestamp attribute: "createdAt" or "updatedAt"
+   * @param from the inclusive lower bound, or {@code null}
+   * @param to the exclusive upper bound, or {@code null}
+   * @return the specification
+   */
+  public static Specification<Server> between(String attribute, Instant from, Instant to) {
+    return (root, query, cb) -> {
+      if (from == null) {
+        return cb.lessThan(root.get(attribute), to);
+      }
+      if (to == null) {
+        return cb.greaterThanOrEqualTo(root.get(attribute), from);
+      }
+      return cb.and(
+          cb.greaterThanOrEqualTo(root.get(attribute), from),
+          cb.lessThan(root.get(attribute), to));
+    };
+  }
+
+  /**
+   * Matches the servers after a row in the name ordering (ascending name, then id).
+   *
+   * @param name the name of the last row seen
+   * @param id the id of the last row seen
+   * @return the specification
+   */
+  public static Specification<Server> nameAfter(String name, Long id) {
+    return (root, query, cb) ->
+        cb.or(
+            cb.greaterThan(root.get("name"), name),
+            cb.and(cb.equal(root.get("name"), name), cb.greaterThan(root.get("id"), id)));
+  }
+
+  /**
+   * Matches the servers after a row in a descending timestamp ordering (timestamp, then id).
+   *
+   * @param attribute the timestamp attribute: "createdAt" or "updatedAt"
+   * @param instant the timestamp of the last row seen
+   * @param id the id of the last row seen
+   * @return the specification
+   */
+  public static Specification<Server> before(String attribute, Instant instant, Long id) {
+    return (root, query, cb) ->
+        cb.or(
+            cb.lessThan(root.get(attribute), instant),
+            cb.and(cb.equal(root.get(attribute), instant), cb.lessThan(root.get("id"), id)));
+  }
+}
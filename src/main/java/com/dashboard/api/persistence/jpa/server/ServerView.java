@@ -0,0 +1,31 @@
+package com.dashboard.api.persistence.jpa.server;
+
+import java.time.Instant;
+
+/**
+ * Flat, read-only projection of a server joined with its type, status and region.
+ *
+ * <p>Built by the {@code find*View*} queries of {@link ServerRepository} through a JPQL constructor
+ * expression, so a whole listing is read in a single statement without initializing any of the
+ * lazy associations of {@link com.dashboard.api.domain.server.Server}.
+ *
+ * @param id the server id
+ * @param name the server name
+ * @param active whether the server is active
+ * @param typeName the name of the server type
+ * @param statusName the name of the server status
+ * @param regionName the name of the server region
+ * @param createdAt when the server was created
+ * @param updatedAt when the server was last updated
+ * @param version the optimistic lock version of the server
+ */
+public record ServerView(
+    Long id,
+    String name,
+    boolean active,
+    String typeName,
+    String statusName,
+    String regionName,
+    Instant createdAt,
+    Instant updatedAt,
+    long version) {}
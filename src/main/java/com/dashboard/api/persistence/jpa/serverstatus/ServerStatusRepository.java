@@ -1,9 +1,12 @@
 package com.dashboard.api.persistence.jpa.serverstatus;
 
 import com.dashboard.api.domain.serverstatus.ServerStatus;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +15,7 @@ import org.springframework.stereotype.Repository;
 public interface ServerStatusRepository extends JpaRepository<ServerStatus, Integer> {
   boolean existsByName(String name);
 
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Optional<ServerStatus> findByName(String name);
 
   @Query("SELECT s.id FROM ServerStatus s WHERE s.name = :name")
@@ -0,0 +1,137 @@
+package com.dashboard.api.persistence.patch;
+
+import com.dashboard.api.domain.project.Project;
+import com.dashboard.api.domain.server.Server;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Partial updates of servers and projects, each run as a single {@code UPDATE} statement.
+ *
+ * <p>Only the columns given a value change; {@code null} keeps the current one. The statement
+ * matches the row on its id and on the version the client last read, and bumps the version, so a
+ * concurrent change makes it update nothing instead of overwriting that change. The statements go
+ * straight through JDBC, so nothing is loaded into the persistence context, and the entity is
+ * evicted from the second-level cache once the transaction commits.
+ */
+@Repository
+public class PatchRepository {
+  private static final String SERVER =
+      """
+      UPDATE servers SET
+        name = COALESCE(:name, name),
+        region_id = COALESCE(:regionId, region_id),
+        type_id = COALESCE(:typeId, type_id),
+        status_id = COALESCE(:statusId, status_id),
+        active = COALESCE(:active, active),
+        updated_at = :updatedAt,
+        version = version + 1
+      WHERE id = :id AND version = :version
+      """;
+  private static final String PROJECT =
+      """
+      UPDATE projects SET
+        name = COALESCE(:name, name),
+        details = COALESCE(:details, details),
+        status_id = COALESCE(:statusId, status_id),
+        updated_at = :updatedAt,
+        version = version + 1
+      WHERE id = :id AND version = :version
+      """;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final EntityManagerFactory entityManagerFactory;
+
+  public PatchRepository(
+      NamedParameterJdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  /**
+   * Updates the given columns of a server.
+   *
+   * @param id the server id
+   * @param version the version the change was based on
+   * @param updatedAt the new {@code updated_at}
+   * @param name the new name, or {@code null}
+   * @param regionId the new region id, or {@code null}
+   * @param typeId the new type id, or {@code null}
+   * @param statusId the new status id, or {@code null}
+   * @param active the new active flag, or {@code null}
+   * @return whether the server was updated; {@code false} if its version changed in between
+   */
+  public boolean patchServer(
+      long id,
+      long version,
+      Instant updatedAt,
+      String name,
+      Integer regionId,
+      Integer typeId,
+      Integer statusId,
+      Boolean active) {
+    MapSqlParameterSource parameters =
+        key(id, version, updatedAt)
+            .addValue("name", name, Types.VARCHAR)
+            .addValue("regionId", regionId, Types.INTEGER)
+            .addValue("typeId", typeId, Types.INTEGER)
+            .addValue("statusId", statusId, Types.INTEGER)
+            .addValue("active", active, Types.BOOLEAN);
+    return update(SERVER, parameters, Server.class, id);
+  }
+
+  /**
+   * Updates the given columns of a project. Its servers are left untouched.
+   *
+   * @param id the project id
+   * @param version the version the change was based on
+   * @param updatedAt the new {@code updated_at}
+   * @param name the new name, or {@code null}
+   * @param details the new details, or {@code null}
+   * @param statusId the new status id, or {@code null}
+   * @return whether the project was updated; {@code false} if its version changed in between
+   */
+  public boolean patchProject(
+      long id, long version, Instant updatedAt, String name, String details, Integer statusId) {
+    MapSqlParameterSource parameters =
+        key(id, version, updatedAt)
+            .addValue("name", name, Types.VARCHAR)
+            .addValue("details", details, Types.VARCHAR)
+            .addValue("statusId", statusId, Types.INTEGER);
+    return update(PROJECT, parameters, Project.class, id);
+  }
+
+  private static MapSqlParameterSource key(long id, long version, Instant updatedAt) {
+    return new MapSqlParameterSource()
+        .addValue("id", id)
+        .addValue("version", version)
+        .addValue("updatedAt", Timestamp.from(updatedAt), Types.TIMESTAMP);
+  }
+
+  private boolean update(
+      String statement, MapSqlParameterSource parameters, Class<?> entity, long id) {
+    if (jdbcTemplate.update(statement, parameters) == 0) {
+      return false;
+    }
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              entityManagerFactory.getCache().evict(entity, id);
+            }
+          });
+    } else {
+      entityManagerFactory.getCache().evict(entity, id);
+    }
+    return true;
+  }
+}
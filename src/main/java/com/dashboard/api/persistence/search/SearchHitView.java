@@ -0,0 +1,13 @@
+package com.dashboard.api.persistence.search;
+
+/**
+ * One result of {@link SearchRepository#search}.
+ *
+ * @param kind what was found: {@code server}, {@code project} or {@code region}
+ * @param id the id of the entity
+ * @param name the name of the entity
+ * @param context a secondary text: a project's details or a region's code; {@code null} for
+ *     servers
+ * @param rank the relevance of the result; higher is better
+ */
+public record SearchHitView(String kind, Long id, String name, String context, double rank) {}
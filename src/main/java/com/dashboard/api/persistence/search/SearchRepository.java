@@ -0,0 +1,140 @@
+package com.dashboard.api.persistence.search;
+
+import java.util.List;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Ranked full-text and substring search over servers, projects and regions, on PostgreSQL.
+ *
+ * <p>A row matches when its {@code search_vector} matches the query (words, with the web search
+ * syntax: quotes, {@code OR}, {@code -}) or, for terms of at least {@link #MIN_SUBSTRING_LENGTH}
+ * characters, when its name contains the term. The rank adds the {@code ts_rank} of the full-text
+ * match to the trigram similarity of the name, so exact and near-exact names come first.
+ *
+ * <p>Each kind contributes at most {@link #CANDIDATES} full-text matches and {@link #CANDIDATES}
+ * substring matches, which are then ranked together. The two are picked by separate queries so
+ * each can use its own index from {@link SearchSchemaInitializer}: the full-text matches with the
+ * highest {@code ts_rank} come from the GIN index, and the substring matches nearest to the term
+ * by trigram distance from the GiST index, which returns them in that order so the scan stops
+ * after {@link #CANDIDATES} rows however many names contain the term. Ties are broken by id, so
+ * the same data always yields the same candidates and offset pages neither repeat nor skip
+ * results; a name equal to the term is always a candidate unless more than {@link #CANDIDATES}
+ * names equal it. Results past that window aren't reachable by paging. Regions are few and have
+ * no indexes of their own; they're returned as results of their own rather than expanded into
+ * their servers.
+ */
+@Repository
+public class SearchRepository {
+  public static final int CANDIDATES = 1000;
+  public static final int MIN_SUBSTRING_LENGTH = 3;
+
+  private static final String TEMPLATE =
+      """
+      WITH query AS (SELECT websearch_to_tsquery('simple', :q) AS ts),
+      server_hits AS (
+        (SELECT s.id FROM servers s, query
+         WHERE s.search_vector @@ query.ts
+         ORDER BY ts_rank(s.search_vector, query.ts) DESC, s.id
+         LIMIT %4$d)
+        %1$s),
+      project_hits AS (
+        (SELECT p.id FROM projects p, query
+         WHERE p.search_vector @@ query.ts
+         ORDER BY ts_rank(p.search_vector, query.ts) DESC, p.id
+         LIMIT %4$d)
+        %2$s),
+      region_hits AS (
+        (SELECT r.id FROM regions r, query
+         WHERE r.search_vector @@ query.ts
+         ORDER BY ts_rank(r.search_vector, query.ts) DESC, r.id
+         LIMIT %4$d)
+        %3$s)
+      SELECT kind, id, name, context, rank FROM (
+        SELECT 'server' AS kind, s.id, s.name, NULL AS context,
+               ts_rank(s.search_vector, query.ts) + similarity(s.name, :q) AS rank
+        FROM servers s JOIN server_hits h ON h.id = s.id CROSS JOIN query
+        UNION ALL
+        SELECT 'project', p.id, p.name, p.details,
+               ts_rank(p.search_vector, query.ts) + similarity(p.name, :q)
+        FROM projects p JOIN project_hits h ON h.id = p.id CROSS JOIN query
+        UNION ALL
+        SELECT 'region', r.id, r.name, r.code,
+               ts_rank(r.search_vector, query.ts)
+                 + greatest(similarity(r.name, :q), similarity(r.code, :q))
+        FROM regions r JOIN region_hits h ON h.id = r.id CROSS JOIN query
+      ) hits
+      ORDER BY rank DESC, kind, id
+      LIMIT :limit OFFSET :offset
+      """;
+
+  private static final String SERVER_SUBSTRINGS =
+      """
+      UNION
+        (SELECT s.id FROM servers s
+         WHERE s.name ILIKE :pattern
+         ORDER BY s.name <-> :q, s.id
+         LIMIT %d)""";
+  private static final String PROJECT_SUBSTRINGS =
+      """
+      UNION
+        (SELECT p.id FROM projects p
+         WHERE p.name ILIKE :pattern
+         ORDER BY p.name <-> :q, p.id
+         LIMIT %d)""";
+  private static final String REGION_SUBSTRINGS =
+      """
+      UNION
+        (SELECT r.id FROM regions r
+         WHERE r.name ILIKE :pattern OR r.code ILIKE :pattern
+         ORDER BY least(r.name <-> :q, r.code <-> :q), r.id
+         LIMIT %d)""";
+
+  private static final String WORDS_ONLY = TEMPLATE.formatted("", "", "", CANDIDATES);
+  private static final String WORDS_OR_SUBSTRING =
+      TEMPLATE.formatted(
+          SERVER_SUBSTRINGS.formatted(CANDIDATES),
+          PROJECT_SUBSTRINGS.formatted(CANDIDATES),
+          REGION_SUBSTRINGS.formatted(CANDIDATES),
+          CANDIDATES);
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public SearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Searches servers, projects and regions.
+   *
+   * @param term the search term
+   * @param limit the maximum number of results
+   * @param offset the number of results to skip
+   * @return the results, most relevant first
+   */
+  public List<SearchHitView> search(String term, int limit, int offset) {
+    boolean substring = term.length() >= MIN_SUBSTRING_LENGTH;
+    MapSqlParameterSource parameters =
+        new MapSqlParameterSource()
+            .addValue("q", term)
+            .addValue("pattern", "%" + escapeLike(term) + "%")
+            .addValue("limit", limit)
+            .addValue("offset", offset);
+
+    return jdbcTemplate.query(
+        substring ? WORDS_OR_SUBSTRING : WORDS_ONLY,
+        parameters,
+        (row, rowNumber) ->
+            new SearchHitView(
+                row.getString("kind"),
+                row.getLong("id"),
+                row.getString("name"),
+                row.getString("context"),
+                row.getDouble("rank")));
+  }
+
+  private static String escapeLike(String term) {
+    return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
@@ -0,0 +1,91 @@
+package com.dashboard.api.persistence.search;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the columns and indexes behind {@link SearchRepository} at application startup.
+ *
+ * <p>Each searchable table gets a {@code search_vector} column generated by PostgreSQL from its
+ * text columns, so it's kept in sync on every insert and update without any application code, with
+ * a GIN index for full-text matches. The names also get {@code pg_trgm} GiST indexes, which serve
+ * substring ({@code ILIKE '%term%'}) matches and return the names nearest to a term first, the
+ * order search picks its substring candidates in. They replace the GIN trigram indexes of earlier
+ * versions, which can't order by distance. Hibernate's schema update doesn't know about any of
+ * this, so the statements are idempotent and run on every start; on other databases (the H2 used by
+ * the tests) nothing is done and search is unavailable.
+ *
+ * <p>Adding a generated column rewrites the table once, so the first start after upgrading a large
+ * database takes a while. The indexes are built concurrently and don't block writes.
+ */
+@Component
+@Order(0)
+public class SearchSchemaInitializer implements CommandLineRunner {
+  private static final Logger logger = LoggerFactory.getLogger(SearchSchemaInitializer.class);
+
+  private static final List<String> STATEMENTS =
+      List.of(
+          "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+          """
+          ALTER TABLE servers ADD COLUMN IF NOT EXISTS search_vector tsvector
+          GENERATED ALWAYS AS (to_tsvector('simple', coalesce(name, ''))) STORED
+          """,
+          """
+          ALTER TABLE projects ADD COLUMN IF NOT EXISTS search_vector tsvector
+          GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(name, '')), 'A')
+            || setweight(to_tsvector('simple', coalesce(details, '')), 'B')) STORED
+          """,
+          """
+          ALTER TABLE regions ADD COLUMN IF NOT EXISTS search_vector tsvector
+          GENERATED ALWAYS AS (
+            to_tsvector('simple', coalesce(name, '') || ' ' || coalesce(code, ''))) STORED
+          """,
+          """
+          CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_servers_search_vector
+          ON servers USING gin (search_vector)
+          """,
+          """
+          CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_servers_name_trgm_gist
+          ON servers USING gist (name gist_trgm_ops)
+          """,
+          "DROP INDEX CONCURRENTLY IF EXISTS idx_servers_name_trgm",
+          """
+          CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_search_vector
+          ON projects USING gin (search_vector)
+          """,
+          """
+          CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_name_trgm_gist
+          ON projects USING gist (name gist_trgm_ops)
+          """,
+          "DROP INDEX CONCURRENTLY IF EXISTS idx_projects_name_trgm");
+
+  private final DataSource dataSource;
+  private final JdbcTemplate jdbcTemplate;
+
+  public SearchSchemaInitializer(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+    this.dataSource = dataSource;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public void run(String... args) throws MetaDataAccessException {
+    String product =
+        JdbcUtils.extractDatabaseMetaData(
+            dataSource, metaData -> metaData.getDatabaseProductName());
+    if (!"PostgreSQL".equals(product)) {
+      logger.info("Search indexes are only created on PostgreSQL, not on {}", product);
+      return;
+    }
+
+    STATEMENTS.forEach(jdbcTemplate::execute);
+  }
+}
@@ -0,0 +1,105 @@
+package com.dashboard.api.persistence.version;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads cheap version stamps of the server and project tables, used as ETags.
+ *
+ * <p>A stamp combines row counts and the latest {@code updated_at}, so it changes on every insert,
+ * update and delete. The queries go straight through JDBC and only touch the {@code
+ * (updated_at, id)} indexes and primary keys, so checking whether a client's copy is still current
+ * costs one aggregate statement and no entity loading.
+ */
+@Repository
+public class DataVersionRepository {
+  private static final String SERVERS = "SELECT COUNT(*), MAX(updated_at) FROM servers";
+  private static final String SERVER = "SELECT 1, updated_at FROM servers WHERE id = ?";
+  private static final String PROJECTS =
+      """
+      SELECT (SELECT COUNT(*) FROM projects), (SELECT MAX(updated_at) FROM projects),
+             (SELECT COUNT(*) FROM servers), (SELECT MAX(updated_at) FROM servers)
+      """;
+  private static final String PROJECT =
+      """
+      SELECT 1, p.updated_at, COUNT(s.id), MAX(s.updated_at)
+      FROM projects p
+      LEFT JOIN project_servers ps ON ps.project_id = p.id
+      LEFT JOIN servers s ON s.id = ps.server_id
+      WHERE p.id = ?
+      GROUP BY p.updated_at
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public DataVersionRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Returns the version of the whole server table.
+   *
+   * @return the version stamp
+   */
+  public String serversVersion() {
+    return jdbcTemplate.queryForObject(SERVERS, DataVersionRepository::stamp);
+  }
+
+  /**
+   * Returns the version of one server.
+   *
+   * @param id the server id
+   * @return the version stamp, or empty if the server doesn't exist
+   */
+  public Optional<String> serverVersion(long id) {
+    return first(jdbcTemplate.query(SERVER, DataVersionRepository::stamp, id));
+  }
+
+  /**
+   * Returns the version of the project listing, which includes the servers of every project.
+   *
+   * @return the version stamp
+   */
+  public String projectsVersion() {
+    return jdbcTemplate.queryForObject(PROJECTS, DataVersionRepository::stamp);
+  }
+
+  /**
+   * Returns the version of one project and its servers.
+   *
+   * @param id the project id
+   * @return the version stamp, or empty if the project doesn't exist
+   */
+  public Optional<String> projectVersion(long id) {
+    return first(jdbcTemplate.query(PROJECT, DataVersionRepository::stamp, id));
+  }
+
+  private static Optional<String> first(List<String> stamps) {
+    return stamps.stream().findFirst();
+  }
+
+  /** Joins the columns of a row into a stamp: counts as-is, timestamps as epoch microseconds. */
+  private static String stamp(ResultSet row, int rowNumber) throws SQLException {
+    StringBuilder stamp = new StringBuilder();
+    int columns = row.getMetaData().getColumnCount();
+    for (int column = 1; column <= columns; column++) {
+      if (column > 1) {
+        stamp.append('-');
+      }
+      Object value = row.getObject(column);
+      if (value instanceof Timestamp timestamp) {
+        stamp.append(
+            Long.toString(
+                timestamp.getTime() / 1000 * 1_000_000 + timestamp.getNanos() / 1000, 36));
+      } else {
+        stamp.append(value == null ? "0" : value.toString());
+      }
+    }
+    return stamp.toString();
+  }
+}
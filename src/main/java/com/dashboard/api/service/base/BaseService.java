@@ -7,7 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
  * Abstract base service implementation providing common functionality.
  *
  * @param <T> the output/presenter type
- * @param <X> the detailed view type returned by get(Long id)
+ * @param <X> the detailed view type returned by get(Long id) and getAll()
  * @param <I> the input type used for register and update
  */
 public abstract class BaseService<T, X, I> implements CrudService<T, X, I> {
@@ -6,7 +6,7 @@ import java.util.List;
  * Generic base service interface defining common CRUD operations.
  *
  * @param <T> the type of the output/presenter object returned by service methods
- * @param <X> the type of the object returned by get(Long id) method (e.g., detailed view)
+ * @param <X> the type of the object returned by get(Long id) and getAll() (e.g., detailed view)
  * @param <I> the type of the input object used for register and update operations
  */
 public interface CrudService<T, X, I> {
@@ -16,7 +16,7 @@ public interface CrudService<T, X, I> {
    *
    * @return a list of all resource representations
    */
-  List<T> getAll();
+  List<X> getAll();
 
   /**
    * Retrieves a single resource by its ID.
@@ -0,0 +1,60 @@
+package com.dashboard.api.service.base.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A single page of a keyset-paginated listing.
+ *
+ * @param <T> the type of the items in the page
+ * @param items the rows of this page, in sort order
+ * @param nextCursor the cursor to request the next page with, or {@code null} on the last page
+ * @param hasMore whether there are rows after this page
+ */
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasMore) {
+  public static final int DEFAULT_LIMIT = 50;
+  public static final int MAX_LIMIT = 500;
+
+  /**
+   * Clamps a requested page size into {@code [1, MAX_LIMIT]}.
+   *
+   * @param limit the requested page size
+   * @return the page size to use
+   */
+  public static int clampLimit(int limit) {
+    if (limit < 1) {
+      return DEFAULT_LIMIT;
+    }
+    return Math.min(limit, MAX_LIMIT);
+  }
+
+  /**
+   * Builds a page from rows fetched with {@code limit + 1} as the query size. The extra row, if
+   * present, is only used to know whether another page exists and is not returned.
+   *
+   * @param <T> the row type
+   * @param rows the rows fetched, at most {@code limit + 1}
+   * @param limit the page size requested
+   * @param cursorOf function producing the cursor of a row
+   * @return the page
+   */
+  public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, String> cursorOf) {
+    if (rows.size() <= limit) {
+      return new CursorPage<>(rows, null, false);
+    }
+
+    List<T> items = rows.subList(0, limit);
+    return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)), true);
+  }
+
+  /**
+   * Maps the items of this page, keeping its cursor.
+   *
+   * @param <R> the mapped type
+   * @param mapper the mapping function
+   * @return a new page with the mapped items
+   */
+  public <R> CursorPage<R> map(Function<T, R> mapper) {
+    return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor, hasMore);
+  }
+}
@@ -0,0 +1,85 @@
+package com.dashboard.api.service.base.pagination;
+
+import com.dashboard.api.domain.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor pointing right after the last row of a page.
+ *
+ * <p>A cursor is the Base64 (URL-safe) encoding of {@code sort|key|id}, where {@code key} is the
+ * value of the sort column of the last row and {@code id} its primary key. Clients must treat it
+ * as an opaque token and only pass it back through the {@code after} parameter.
+ *
+ * @param sort the sort the cursor was issued for
+ * @param key the sort column value of the last row returned
+ * @param id the id of the last row returned
+ */
+public record PageCursor(PageSort sort, String key, Long id) {
+  private static final char SEPARATOR = '|';
+
+  /**
+   * Encodes a cursor for the given sort, key and id.
+   *
+   * @param sort the sort used by the page
+   * @param key the sort column value of the last row
+   * @param id the id of the last row
+   * @return the opaque cursor string
+   */
+  public static String encode(PageSort sort, String key, Long id) {
+    String raw = sort.name() + SEPARATOR + key + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a cursor previously returned by {@link #encode}.
+   *
+   * @param cursor the opaque cursor string
+   * @param expectedSort the sort requested alongside the cursor
+   * @return the decoded cursor
+   * @throws BadRequestException if the cursor is malformed or was issued for another sort
+   */
+  public static PageCursor decode(String cursor, PageSort expectedSort) {
+    String raw;
+    try {
+      raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException("Invalid cursor", e);
+    }
+
+    int first = raw.indexOf(SEPARATOR);
+    int last = raw.lastIndexOf(SEPARATOR);
+    if (first < 0 || first == last) {
+      throw new BadRequestException("Invalid cursor");
+    }
+
+    if (!expectedSort.name().equals(raw.substring(0, first))) {
+      throw new BadRequestException("Cursor was issued for a different sort");
+    }
+
+    try {
+      Long id = Long.valueOf(raw.substring(last + 1));
+      return new PageCursor(expectedSort, raw.substring(first + 1, last), id);
+    } catch (NumberFormatException e) {
+      throw new BadRequestException("Invalid cursor", e);
+    }
+  }
+
+  /**
+   * Returns the sort key parsed as an {@link Instant}, for timestamp sorts.
+   *
+   * @return the key as an instant
+   * @throws BadRequestException if the key isn't a valid ISO-8601 instant
+   */
+  public Instant instantKey() {
+    try {
+      return Instant.parse(key);
+    } catch (DateTimeParseException e) {
+      throw new BadRequestException("Invalid cursor", e);
+    }
+  }
+}
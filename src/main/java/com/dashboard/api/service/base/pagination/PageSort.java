@@ -0,0 +1,42 @@
+package com.dashboard.api.service.base.pagination;
+
+import com.dashboard.api.domain.exception.BadRequestException;
+
+/**
+ * Sort keys supported by the cursor-paginated listings.
+ *
+ * <p>{@link #NAME} is ordered ascending, while {@link #UPDATED_AT} and {@link #CREATED_AT} are
+ * ordered descending so the most recent rows come first. The entity id is always used as the
+ * tiebreaker, in the same direction as the sort key.
+ */
+public enum PageSort {
+  NAME("name"),
+  UPDATED_AT("updatedAt"),
+  CREATED_AT("createdAt");
+
+  private final String key;
+
+  PageSort(String key) {
+    this.key = key;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Resolves a sort key coming from a request parameter.
+   *
+   * @param value the requested sort key (e.g. "name", "updatedAt", "createdAt")
+   * @return the matching {@code PageSort}
+   * @throws BadRequestException if the value doesn't match any supported sort key
+   */
+  public static PageSort from(String value) {
+    for (PageSort sort : values()) {
+      if (sort.key.equalsIgnoreCase(value) || sort.name().equalsIgnoreCase(value)) {
+        return sort;
+      }
+    }
+    throw new BadRequestException("Unsupported sort: " + value);
+  }
+}
@@ -0,0 +1,92 @@
+package com.dashboard.api.service.base.presentation;
+
+import com.dashboard.api.domain.exception.BadRequestException;
+
+/**
+ * How presenters render timestamps.
+ *
+ * <p>{@link #RELATIVE} renders the age of a row as a short label (e.g. "12min"), which changes as
+ * time passes even when the data doesn't. {@link #ABSOLUTE} renders the raw ISO-8601 instants
+ * instead, so identical data always yields byte-identical responses and can be cached and
+ * revalidated; the client is then responsible for formatting them. Only {@link #ABSOLUTE}
+ * responses therefore carry an ETag.
+ */
+public enum TimeFormat {
+  RELATIVE("relative"),
+  ABSOLUTE("absolute");
+
+  /** Versioned media type that selects {@link #ABSOLUTE} through the Accept header. */
+  public static final String ABSOLUTE_MEDIA_TYPE = "application/vnd.dashboard.v2+json";
+
+  private final String key;
+
+  TimeFormat(String key) {
+    this.key = key;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Resolves a time format coming from a request parameter.
+   *
+   * @param value the requested format ("relative" or "absolute")
+   * @return the matching {@code TimeFormat}
+   * @throws BadRequestException if the value doesn't match any supported format
+   */
+  public static TimeFormat from(String value) {
+    for (TimeFormat format : values()) {
+      if (format.key.equalsIgnoreCase(value)) {
+        return format;
+      }
+    }
+    throw new BadRequestException("Unsupported time format: " + value);
+  }
+
+  /**
+   * Picks the time format of a request. An explicit {@code time} parameter wins; otherwise the
+   * versioned media type in the Accept header selects {@link #ABSOLUTE}, and anything else keeps
+   * the original {@link #RELATIVE} rendering.
+   *
+   * @param time the {@code time} request parameter, or {@code null}
+   * @param accept the Accept header, or {@code null}
+   * @return the time format to present the response with
+   * @throws BadRequestException if the parameter doesn't match any supported format
+   */
+  public static TimeFormat negotiate(String time, String accept) {
+    if (time != null && !time.isBlank()) {
+      return from(time);
+    }
+    if (accept != null && accept.contains(ABSOLUTE_MEDIA_TYPE)) {
+      return ABSOLUTE;
+    }
+    return RELATIVE;
+  }
+
+  /**
+   * Tells whether a representation in this format can be revalidated with an ETag. Only {@link
+   * #ABSOLUTE} can: a {@link #RELATIVE} body changes as time passes while the data doesn't, so no
+   * ETag derived from the data can promise it's byte-identical to the client's copy.
+   *
+   * @return {@code true} if responses in this format carry an ETag
+   */
+  public boolean isRevalidatable() {
+    return this == ABSOLUTE;
+  }
+
+  /**
+   * Derives the ETag of a representation in this format from the ETag of the underlying data, so
+   * the two renderings of the same data are never mistaken for one another.
+   *
+   * @param etag the ETag of the data
+   * @return the ETag of the representation
+   * @throws IllegalStateException if the format isn't {@linkplain #isRevalidatable revalidatable}
+   */
+  public String tag(String etag) {
+    if (!isRevalidatable()) {
+      throw new IllegalStateException(key + " responses carry no ETag");
+    }
+    return etag + "-" + key;
+  }
+}
@@ -2,8 +2,14 @@ package com.dashboard.api.service.base.session;
 
 import com.dashboard.api.domain.user.User;
 import com.dashboard.api.persistence.jpa.user.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * Provides utility methods to access the current logged-in user's information based on Spring
@@ -12,19 +18,33 @@ import org.springframework.stereotype.Component;
  * <p>Retrieves the username of the authenticated user from the SecurityContext, then loads the full
  * User entity from the UserRepository. Throws an exception if no authenticated user is present or
  * if user not found.
+ *
+ * <p>Read-only callers should use {@link #getLoggedUserSnapshot()}, which is memoized for the
+ * current request and backed by a small cache shared between requests, whose entries live for
+ * {@code session.user-snapshot.ttl}. Code that changes a user must call {@link #evict(String)}
+ * afterwards, so the next read sees the new data.
  */
 @Component
 public class UserSession {
+  private static final String SNAPSHOT_ATTRIBUTE = UserSession.class.getName() + ".snapshot";
+
+  private static final long MAX_CACHED_USERS = 10_000;
 
   private final UserRepository userRepository;
+  private final Cache<String, UserSnapshot> snapshots;
 
   /**
    * Constructs the UserSession with the required UserRepository.
    *
    * @param userRepository repository used to fetch user details
+   * @param snapshotTtl how long a cached user snapshot is served before being reloaded
    */
-  public UserSession(UserRepository userRepository) {
+  public UserSession(
+      UserRepository userRepository,
+      @Value("${session.user-snapshot.ttl:PT30S}") Duration snapshotTtl) {
     this.userRepository = userRepository;
+    this.snapshots =
+        Caffeine.newBuilder().maximumSize(MAX_CACHED_USERS).expireAfterWrite(snapshotTtl).build();
   }
 
   /**
@@ -35,12 +55,55 @@ public class UserSession {
    * @throws UnauthorizedException if no user is currently authenticated
    */
   public User getLoggedUserInfo() {
-    String username = getAuthenticatedUsername();
+    return findUser(getAuthenticatedUsername());
+  }
+
+  private User findUser(String username) {
     return userRepository
         .findByUsername(username)
         .orElseThrow(() -> new IllegalStateException("Authenticated user not found: " + username));
   }
 
+  /**
+   * Returns a snapshot of the currently authenticated user.
+   *
+   * <p>The snapshot is taken from the current request if it was already loaded, then from the
+   * shared cache, and only then from the database.
+   *
+   * @return the snapshot of the logged-in user
+   * @throws IllegalStateException if the authenticated user is not found in the repository
+   * @throws UnauthorizedException if no user is currently authenticated
+   */
+  public UserSnapshot getLoggedUserSnapshot() {
+    String username = getAuthenticatedUsername();
+    RequestAttributes request = RequestContextHolder.getRequestAttributes();
+    if (request != null
+        && request.getAttribute(SNAPSHOT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+            instanceof UserSnapshot memo
+        && memo.username().equals(username)) {
+      return memo;
+    }
+
+    UserSnapshot snapshot = snapshots.get(username, key -> UserSnapshot.from(findUser(key)));
+    if (request != null) {
+      request.setAttribute(SNAPSHOT_ATTRIBUTE, snapshot, RequestAttributes.SCOPE_REQUEST);
+    }
+    return snapshot;
+  }
+
+  /**
+   * Drops the cached snapshot of a user. Must be called after the user is changed.
+   *
+   * @param username the username of the changed user
+   */
+  public void evict(String username) {
+    snapshots.invalidate(username);
+    RequestAttributes request = RequestContextHolder.getRequestAttributes();
+    if (request != null) {
+      request.removeAttribute(SNAPSHOT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+  }
+
   /**
    * Returns the username of the currently authenticated user.
    *
@@ -0,0 +1,46 @@
+package com.dashboard.api.service.base.session;
+
+import com.dashboard.api.domain.authority.Authority;
+import com.dashboard.api.domain.user.User;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable copy of the fields of a {@link User} that read-only endpoints need.
+ *
+ * <p>Unlike the entity, a snapshot can be shared between requests and threads, so it is what
+ * {@link UserSession} caches.
+ *
+ * @param id the user id
+ * @param username the username
+ * @param name the first name
+ * @param lastName the last name
+ * @param profilePicture the profile picture URL
+ * @param authorities the names of the user's authorities
+ */
+public record UserSnapshot(
+    Long id,
+    String username,
+    String name,
+    String lastName,
+    String profilePicture,
+    Set<String> authorities) {
+
+  /**
+   * Copies the fields of a user entity.
+   *
+   * @param user the user to copy
+   * @return the snapshot of the user
+   */
+  public static UserSnapshot from(User user) {
+    return new UserSnapshot(
+        user.getId(),
+        user.getUsername(),
+        user.getName(),
+        user.getLastName(),
+        user.getProfilePicture(),
+        user.getAuthorities().stream()
+            .map(Authority::getAuthority)
+            .collect(Collectors.toUnmodifiableSet()));
+  }
+}
@@ -0,0 +1,119 @@
+package com.dashboard.api.service.dashboard;
+
+import com.dashboard.api.infrastructure.sql.SqlStatementCounter;
+import com.dashboard.api.service.dashboard.dto.DashboardBootstrap;
+import com.dashboard.api.service.fleet.FleetService;
+import com.dashboard.api.service.fleet.dto.FleetSummary;
+import com.dashboard.api.service.project.ProjectService;
+import com.dashboard.api.service.project.dto.ProjectSummaryPresenter;
+import com.dashboard.api.service.user.UserService;
+import com.dashboard.api.service.user.dto.UserPresenter;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service gathering the data of the dashboard's first render in a single call.
+ *
+ * <p>The user, the recent projects and the fleet counts are loaded by three branches that run at
+ * the same time on virtual threads, each with its own repository calls and the caller's security
+ * context, and their statements count towards the request's statement budget. The caller waits
+ * for all of them up to {@code dashboard.bootstrap.branch-timeout}, so the response takes as long
+ * as the slowest branch rather than the sum of the three, and never much longer than the timeout.
+ * A branch that fails or is still running at the deadline is cancelled and reported as unavailable
+ * instead of failing the whole payload.
+ */
+@Service
+public class DashboardService {
+  private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
+
+  private final UserService userService;
+  private final ProjectService projectService;
+  private final FleetService fleetService;
+  private final SqlStatementCounter statementCounter;
+  private final Duration branchTimeout;
+  private final ExecutorService branches = Executors.newVirtualThreadPerTaskExecutor();
+
+  /**
+   * Constructs the DashboardService.
+   *
+   * @param userService the service providing the logged-in user
+   * @param projectService the service providing the project summaries
+   * @param fleetService the service providing the fleet counts
+   * @param statementCounter the counter the branches' statements are added to the request's with
+   * @param branchTimeout how long each branch may run before it's given up on
+   */
+  public DashboardService(
+      UserService userService,
+      ProjectService projectService,
+      FleetService fleetService,
+      SqlStatementCounter statementCounter,
+      @Value("${dashboard.bootstrap.branch-timeout:PT2S}") Duration branchTimeout) {
+    this.userService = userService;
+    this.projectService = projectService;
+    this.fleetService = fleetService;
+    this.statementCounter = statementCounter;
+    this.branchTimeout = branchTimeout;
+  }
+
+  /**
+   * Gathers the dashboard's first render.
+   *
+   * @param projectLimit the maximum number of projects to include
+   * @return the composed payload
+   */
+  public DashboardBootstrap bootstrap(int projectLimit) {
+    Future<UserPresenter> user = fork(userService::me);
+    Future<List<ProjectSummaryPresenter>> projects =
+        fork(() -> projectService.getRecentSummaries(projectLimit));
+    Future<FleetSummary> fleet = fork(fleetService::getSummary);
+
+    long deadline = System.nanoTime() + branchTimeout.toNanos();
+    List<String> unavailable = new ArrayList<>();
+    return new DashboardBootstrap(
+        join("user", user, deadline, unavailable),
+        join("projects", projects, deadline, unavailable),
+        join("fleet", fleet, deadline, unavailable),
+        List.copyOf(unavailable));
+  }
+
+  @PreDestroy
+  void shutdown() {
+    branches.shutdownNow();
+  }
+
+  private <T> Future<T> fork(Callable<T> branch) {
+    return branches.submit(
+        statementCounter.propagate(
+            DelegatingSecurityContextCallable.create(branch, SecurityContextHolder.getContext())));
+  }
+
+  private <T> T join(String name, Future<T> branch, long deadline, List<String> unavailable) {
+    try {
+      return branch.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      logger.warn("Dashboard branch {} timed out after {}", name, branchTimeout);
+    } catch (ExecutionException e) {
+      logger.warn("Dashboard branch {} failed", name, e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    branch.cancel(true);
+    unavailable.add(name);
+    return null;
+  }
+}
@@ -0,0 +1,23 @@
+package com.dashboard.api.service.dashboard.dto;
+
+import com.dashboard.api.service.fleet.dto.FleetSummary;
+import com.dashboard.api.service.project.dto.ProjectSummaryPresenter;
+import com.dashboard.api.service.user.dto.UserPresenter;
+import java.util.List;
+
+/**
+ * Everything the dashboard needs for its first render.
+ *
+ * <p>Each part is gathered by its own branch. A branch that fails or doesn't finish in time leaves
+ * its part {@code null} and is named in {@code unavailable}, so the client can fetch it on its own.
+ *
+ * @param user the logged-in user
+ * @param projects the most recently updated projects
+ * @param fleet the fleet counts
+ * @param unavailable the names of the parts that couldn't be gathered
+ */
+public record DashboardBootstrap(
+    UserPresenter user,
+    List<ProjectSummaryPresenter> projects,
+    FleetSummary fleet,
+    List<String> unavailable) {}
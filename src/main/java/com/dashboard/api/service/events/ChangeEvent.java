@@ -0,0 +1,73 @@
+package com.dashboard.api.service.events;
+
+import com.dashboard.api.service.project.dto.ProjectPresenter;
+import com.dashboard.api.service.server.dto.ServerPresenter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * A change to a server or a project, published by the services once the data has been saved and
+ * pushed to the dashboards subscribed to {@code /events}.
+ *
+ * <p>{@code previous} holds the presenter from before the change, so in-process listeners that
+ * maintain derived state (counters, indexes) can apply the change as a delta. It's not sent to
+ * clients.
+ *
+ * @param resource the kind of entity that changed
+ * @param action what happened to it
+ * @param id the id of the entity
+ * @param data the presenter of the entity after the change, or {@code null} once it's deleted
+ * @param previous the presenter of the entity before the change, or {@code null} if it's new
+ */
+public record ChangeEvent(
+    Resource resource, Action action, Long id, Object data, @JsonIgnore Object previous) {
+
+  /** The kinds of entity whose changes are published. */
+  public enum Resource {
+    SERVER,
+    PROJECT
+  }
+
+  /** The changes that are published. */
+  public enum Action {
+    REGISTERED,
+    UPDATED,
+    DEACTIVATED,
+    DELETED
+  }
+
+  public static ChangeEvent serverRegistered(ServerPresenter server) {
+    return new ChangeEvent(Resource.SERVER, Action.REGISTERED, server.id, server, null);
+  }
+
+  public static ChangeEvent server(
+      Action action, ServerPresenter previous, ServerPresenter server) {
+    return new ChangeEvent(Resource.SERVER, action, server.id, server, previous);
+  }
+
+  public static ChangeEvent serverDeleted(ServerPresenter previous) {
+    return new ChangeEvent(Resource.SERVER, Action.DELETED, previous.id, null, previous);
+  }
+
+  public static ChangeEvent projectRegistered(ProjectPresenter project) {
+    return new ChangeEvent(Resource.PROJECT, Action.REGISTERED, project.id, project, null);
+  }
+
+  public static ChangeEvent project(
+      Action action, ProjectPresenter previous, ProjectPresenter project) {
+    return new ChangeEvent(Resource.PROJECT, action, project.id, project, previous);
+  }
+
+  public static ChangeEvent projectDeleted(ProjectPresenter previous) {
+    return new ChangeEvent(Resource.PROJECT, Action.DELETED, previous.id, null, previous);
+  }
+
+  /**
+   * Returns the SSE event name, e.g. {@code server.updated}, so clients can listen to the changes
+   * they care about.
+   *
+   * @return the event name
+   */
+  public String name() {
+    return resource.name().toLowerCase() + "." + action.name().toLowerCase();
+  }
+}
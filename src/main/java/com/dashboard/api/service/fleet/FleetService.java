@@ -0,0 +1,246 @@
+package com.dashboard.api.service.fleet;
+
+import com.dashboard.api.helpers.StringUtils;
+import com.dashboard.api.persistence.jpa.project.ProjectRepository;
+import com.dashboard.api.persistence.jpa.project.ProjectStatusCount;
+import com.dashboard.api.persistence.jpa.server.ServerDimensionCount;
+import com.dashboard.api.persistence.jpa.server.ServerRepository;
+import com.dashboard.api.service.events.ChangeEvent;
+import com.dashboard.api.service.fleet.dto.FleetSummary;
+import com.dashboard.api.service.project.dto.ProjectPresenter;
+import com.dashboard.api.service.server.dto.ServerPresenter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service maintaining the counts of the fleet in memory.
+ *
+ * <p>Servers are counted per combination of region, type, status and active flag, and projects per
+ * status, each in its own {@link LongAdder} so concurrent writers don't contend. The counts are
+ * seeded with one GROUP BY per table once the application is ready, then moved by the {@link
+ * ChangeEvent}s of the server and project services as their transactions commit, so {@link
+ * #getSummary()} never touches the database. Every {@code fleet.reconcile-interval} the counts
+ * are checked against the database again and corrected, which repairs the drift left by writes
+ * that don't publish events (bulk imports, changes made outside the API) or that raced with the
+ * previous reconciliation. The same counts are exported as the {@code fleet.servers} and {@code
+ * fleet.projects} gauges.
+ */
+@Service
+public class FleetService {
+  private static final Logger logger = LoggerFactory.getLogger(FleetService.class);
+
+  private final ServerRepository serverRepository;
+  private final ProjectRepository projectRepository;
+  private final Map<ServerKey, LongAdder> servers = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> projects = new ConcurrentHashMap<>();
+  private final ReentrantLock reconcileLock = new ReentrantLock();
+  private final MultiGauge serverGauges;
+  private final MultiGauge projectGauges;
+
+  private volatile Instant reconciledAt;
+
+  /**
+   * Constructs the FleetService.
+   *
+   * @param serverRepository the repository the server counts are seeded from
+   * @param projectRepository the repository the project counts are seeded from
+   * @param meterRegistry the registry the gauges are exported to
+   */
+  public FleetService(
+      ServerRepository serverRepository,
+      ProjectRepository projectRepository,
+      MeterRegistry meterRegistry) {
+    this.serverRepository = serverRepository;
+    this.projectRepository = projectRepository;
+    this.serverGauges = MultiGauge.builder("fleet.servers").register(meterRegistry);
+    this.projectGauges = MultiGauge.builder("fleet.projects").register(meterRegistry);
+  }
+
+  /**
+   * Returns the counts of the fleet, seeding them first if that hasn't happened yet.
+   *
+   * @return the fleet summary
+   */
+  public FleetSummary getSummary() {
+    if (reconciledAt == null) {
+      reconcile();
+    }
+
+    long serverTotal = 0;
+    long activeTotal = 0;
+    Map<String, Long> byRegion = new TreeMap<>();
+    Map<String, Long> byType = new TreeMap<>();
+    Map<String, Long> byStatus = new TreeMap<>();
+    for (Map.Entry<ServerKey, LongAdder> entry : servers.entrySet()) {
+      ServerKey key = entry.getKey();
+      long count = entry.getValue().sum();
+      serverTotal += count;
+      if (key.active()) {
+        activeTotal += count;
+      }
+      byRegion.merge(key.region(), count, Long::sum);
+      byType.merge(key.type(), count, Long::sum);
+      byStatus.merge(key.status(), count, Long::sum);
+    }
+
+    long projectTotal = 0;
+    Map<String, Long> projectsByStatus = new TreeMap<>();
+    for (Map.Entry<String, LongAdder> entry : projects.entrySet()) {
+      long count = entry.getValue().sum();
+      projectTotal += count;
+      projectsByStatus.merge(entry.getKey(), count, Long::sum);
+    }
+
+    return new FleetSummary(
+        serverTotal,
+        activeTotal,
+        byRegion,
+        byType,
+        byStatus,
+        projectTotal,
+        projectsByStatus,
+        reconciledAt);
+  }
+
+  /**
+   * Applies a committed change to the counts.
+   *
+   * @param event the change
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onChange(ChangeEvent event) {
+    switch (event.resource()) {
+      case SERVER -> {
+        if (event.previous() instanceof ServerPresenter previous) {
+          serverCounter(ServerKey.of(previous)).decrement();
+        }
+        if (event.data() instanceof ServerPresenter current) {
+          serverCounter(ServerKey.of(current)).increment();
+        }
+      }
+      case PROJECT -> {
+        if (event.previous() instanceof ProjectPresenter previous) {
+          projectCounter(previous.status).decrement();
+        }
+        if (event.data() instanceof ProjectPresenter current) {
+          projectCounter(current.status).increment();
+        }
+      }
+    }
+  }
+
+  /** Recounts the fleet in the database and corrects the in-memory counts. */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      fixedDelayString = "${fleet.reconcile-interval:PT10M}",
+      initialDelayString = "${fleet.reconcile-interval:PT10M}")
+  public void reconcile() {
+    reconcileLock.lock();
+    try {
+      Map<ServerKey, Long> serverCounts = new HashMap<>();
+      for (ServerDimensionCount row : serverRepository.countByDimensions()) {
+        serverCounts.put(
+            new ServerKey(row.regionName(), row.typeName(), row.statusName(), row.active()),
+            row.count());
+      }
+      Map<String, Long> projectCounts = new HashMap<>();
+      for (ProjectStatusCount row : projectRepository.countByStatus()) {
+        projectCounts.merge(StringUtils.capitalizeWord(row.statusName()), row.count(), Long::sum);
+      }
+
+      long drift = correct(servers, serverCounts) + correct(projects, projectCounts);
+      if (reconciledAt != null && drift > 0) {
+        logger.info("Fleet counts drifted by {} and were corrected", drift);
+      }
+      reconciledAt = Instant.now();
+      registerGauges();
+    } finally {
+      reconcileLock.unlock();
+    }
+  }
+
+  /** Sets every counter to its counted value and returns the total correction. */
+  private static <K> long correct(Map<K, LongAdder> counters, Map<K, Long> counted) {
+    long drift = 0;
+    for (Map.Entry<K, Long> entry : counted.entrySet()) {
+      LongAdder counter = counters.computeIfAbsent(entry.getKey(), key -> new LongAdder());
+      long delta = entry.getValue() - counter.sum();
+      counter.add(delta);
+      drift += Math.abs(delta);
+    }
+    for (Map.Entry<K, LongAdder> entry : counters.entrySet()) {
+      if (!counted.containsKey(entry.getKey())) {
+        long stale = entry.getValue().sumThenReset();
+        drift += Math.abs(stale);
+      }
+    }
+    return drift;
+  }
+
+  private LongAdder serverCounter(ServerKey key) {
+    LongAdder counter = servers.get(key);
+    if (counter == null) {
+      counter = servers.computeIfAbsent(key, k -> new LongAdder());
+      registerGauges();
+    }
+    return counter;
+  }
+
+  private LongAdder projectCounter(String status) {
+    LongAdder counter = projects.get(status);
+    if (counter == null) {
+      counter = projects.computeIfAbsent(status, k -> new LongAdder());
+      registerGauges();
+    }
+    return counter;
+  }
+
+  private void registerGauges() {
+    serverGauges.register(
+        servers.entrySet().stream()
+            .map(
+                entry ->
+                    MultiGauge.Row.of(
+                        entry.getKey().tags(), entry.getValue(), LongAdder::doubleValue))
+            .toList(),
+        true);
+    projectGauges.register(
+        projects.entrySet().stream()
+            .map(
+                entry ->
+                    MultiGauge.Row.of(
+                        Tags.of("status", entry.getKey()),
+                        entry.getValue(),
+                        LongAdder::doubleValue))
+            .toList(),
+        true);
+  }
+
+  /** The dimensions servers are counted by. */
+  private record ServerKey(String region, String type, String status, boolean active) {
+    static ServerKey of(ServerPresenter server) {
+      return new ServerKey(
+          server.region.name, server.type.name, server.status.name, server.active);
+    }
+
+    Tags tags() {
+      return Tags.of(
+          "region", region, "type", type, "status", status, "active", Boolean.toString(active));
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.dashboard.api.service.fleet.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Counts of the servers and projects of the fleet.
+ *
+ * @param servers the number of servers
+ * @param activeServers the number of active servers
+ * @param serversByRegion the number of servers per region name
+ * @param serversByType the number of servers per server type name
+ * @param serversByStatus the number of servers per server status name
+ * @param projects the number of projects
+ * @param projectsByStatus the number of projects per project status
+ * @param reconciledAt when the counts were last checked against the database
+ */
+public record FleetSummary(
+    long servers,
+    long activeServers,
+    Map<String, Long> serversByRegion,
+    Map<String, Long> serversByType,
+    Map<String, Long> serversByStatus,
+    long projects,
+    Map<String, Long> projectsByStatus,
+    Instant reconciledAt) {}
@@ -1,31 +1,67 @@
 package com.dashboard.api.service.project;
 
 import com.dashboard.api.domain.entitymanager.EntityManagerHelper;
+import com.dashboard.api.domain.exception.BadRequestException;
 import com.dashboard.api.domain.project.Project;
 import com.dashboard.api.domain.projectstatus.ProjectStatus;
 import com.dashboard.api.domain.server.Server;
 import com.dashboard.api.persistence.jpa.project.ProjectRepository;
+import com.dashboard.api.persistence.jpa.project.ProjectServerView;
+import com.dashboard.api.persistence.jpa.project.ProjectView;
+import com.dashboard.api.persistence.patch.PatchRepository;
+import com.dashboard.api.persistence.version.DataVersionRepository;
 import com.dashboard.api.service.base.BaseService;
+import com.dashboard.api.service.base.pagination.CursorPage;
+import com.dashboard.api.service.base.pagination.PageCursor;
+import com.dashboard.api.service.base.pagination.PageSort;
+import com.dashboard.api.service.base.presentation.TimeFormat;
+import com.dashboard.api.service.events.ChangeEvent;
+import com.dashboard.api.service.project.dto.ProjectPatchInput;
 import com.dashboard.api.service.project.dto.ProjectPresenter;
 import com.dashboard.api.service.project.dto.ProjectRegisterInput;
+import com.dashboard.api.service.project.dto.ProjectSummaryPresenter;
 import com.dashboard.api.service.projectstatus.ProjectStatusService;
+import com.dashboard.api.service.referencedata.ReferenceDataCache;
 import com.dashboard.api.service.server.ServerService;
+import com.dashboard.api.service.server.dto.ServerPresenter;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.OptimisticLockException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service class responsible for managing {@link Project} entities. Implements CRUD operations and
  * business logic related to projects, including validation against servers assigned to projects.
  */
 @Service
+@Observed(name = "dashboard.service")
 public class ProjectService extends BaseService<Project, ProjectPresenter, ProjectRegisterInput> {
+  private static final int EXPORT_BATCH_SIZE = 200;
 
   private final ProjectRepository projectRepository;
   private final ProjectStatusService projectStatusService;
   private final ServerService serverService;
+  private final DataVersionRepository dataVersionRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final PatchRepository patchRepository;
+  private final ReferenceDataCache referenceDataCache;
 
   /**
    * Constructs a ProjectService with the specified repository and server service.
@@ -33,16 +69,51 @@ public class ProjectService extends BaseService<Project, ProjectPresenter, Proje
    * @param projectRepository the repository used to manage projects persistence
    * @param projectStatusService the repository used to manage projects status persistence
    * @param serverService the repository used to manage server persistence
+   * @param dataVersionRepository the repository reading the version stamps used as ETags
+   * @param eventPublisher the publisher of the {@link ChangeEvent}s pushed to {@code /events}
+   * @param patchRepository the repository running partial updates
+   * @param referenceDataCache cache of the reference tables, used to validate and name ids
    */
   public ProjectService(
       EntityManagerHelper entityManagerHelper,
       ProjectRepository projectRepository,
       ProjectStatusService projectStatusService,
-      ServerService serverService) {
+      ServerService serverService,
+      DataVersionRepository dataVersionRepository,
+      ApplicationEventPublisher eventPublisher,
+      PatchRepository patchRepository,
+      ReferenceDataCache referenceDataCache) {
     super(entityManagerHelper);
     this.projectRepository = projectRepository;
     this.projectStatusService = projectStatusService;
     this.serverService = serverService;
+    this.dataVersionRepository = dataVersionRepository;
+    this.eventPublisher = eventPublisher;
+    this.patchRepository = patchRepository;
+    this.referenceDataCache = referenceDataCache;
+  }
+
+  /**
+   * Returns the ETag of the project listing. Projects embed their servers, so it changes whenever
+   * a project or a server is added, changed or removed. It is computed with one aggregate query,
+   * without loading any entity.
+   *
+   * @return the ETag of every page of the listing
+   */
+  public String getListETag() {
+    return "projects-" + dataVersionRepository.projectsVersion();
+  }
+
+  /**
+   * Returns the ETag of a project and its servers, computed without loading any entity.
+   *
+   * @param id the project id
+   * @return the ETag, or empty if the project doesn't exist
+   */
+  public Optional<String> getETag(Long id) {
+    return dataVersionRepository
+        .projectVersion(id)
+        .map(version -> "project-" + id + "-" + version);
   }
 
   /**
@@ -52,64 +123,182 @@ public class ProjectService extends BaseService<Project, ProjectPresenter, Proje
    * @param serverIds the list of server IDs to verify
    * @return true if any server is already registered in the project, false otherwise
    */
-  private boolean isAnyServerRegisteredInProject(String projectName, List<Long> serverIds) {
-    Optional<Long> projectId = projectRepository.findIdByName(projectName);
-    if (projectId.isPresent()
-        && projectRepository.existsByNameAndServerIds(projectId.get(), serverIds)) {
-      return true;
+  private boolean isAnyServerRegisteredInProject(String projectName, Collection<Long> serverIds) {
+    if (serverIds.isEmpty()) {
+      return false;
+    }
+
+    return projectRepository.existsServerInProjectNamed(projectName, serverIds);
+  }
+
+  /**
+   * Assembles presenters for a batch of projects.
+   *
+   * <p>The servers of every project in the batch, together with their type, status and region, are
+   * read with a single query and grouped in memory, so presenting any number of projects costs one
+   * statement on top of the one that loaded {@code projects}.
+   *
+   * @param projects the projects to present, in the order they should be returned
+   * @param format how to render the projects' timestamps
+   * @return the project presenters, in the same order
+   */
+  private List<ProjectPresenter> present(List<ProjectView> projects, TimeFormat format) {
+    if (projects.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> projectIds = projects.stream().map(ProjectView::id).toList();
+    Map<Long, List<ServerPresenter>> serversByProject = new HashMap<>();
+    for (ProjectServerView row : projectRepository.findServerViewsByProjectIdIn(projectIds)) {
+      serversByProject
+          .computeIfAbsent(row.projectId(), id -> new ArrayList<>())
+          .add(ServerPresenter.from(row.server()));
     }
 
-    return false;
+    return projects.stream()
+        .map(
+            project ->
+                ProjectPresenter.from(
+                    project, serversByProject.getOrDefault(project.id(), List.of()), format))
+        .toList();
+  }
+
+  /**
+   * Retrieves the most recently updated projects without their servers, in one statement.
+   *
+   * @param limit the maximum number of projects to return, capped at {@link CursorPage#MAX_LIMIT}
+   * @return the project summaries, most recently updated first
+   */
+  public List<ProjectSummaryPresenter> getRecentSummaries(int limit) {
+    return projectRepository
+        .findRecentSummaries(PageRequest.of(0, CursorPage.clampLimit(limit)))
+        .stream()
+        .map(ProjectSummaryPresenter::from)
+        .toList();
   }
 
   /**
-   * Retrieves all projects.
+   * Streams every project, ordered by id, to the given consumer.
+   *
+   * <p>Projects are read through a server-side cursor and presented in batches of {@link
+   * #EXPORT_BATCH_SIZE}, each batch loading its servers with one query, so the whole catalog is
+   * never held in memory. The consumer is called while the read-only transaction is still open.
    *
-   * @return a list of all projects
+   * @param format how to render the projects' timestamps
+   * @param consumer the consumer receiving each project presenter
    */
-  public List<Project> getAll() {
-    return projectRepository.findAll();
+  @Transactional(readOnly = true)
+  public void forEachProject(TimeFormat format, Consumer<ProjectPresenter> consumer) {
+    List<ProjectView> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
+    try (Stream<ProjectView> views = projectRepository.streamAllViews()) {
+      views.forEach(
+          view -> {
+            batch.add(view);
+            if (batch.size() == EXPORT_BATCH_SIZE) {
+              present(batch, format).forEach(consumer);
+              batch.clear();
+            }
+          });
+    }
+    present(batch, format).forEach(consumer);
+  }
+
+  /**
+   * Retrieves a page of projects using keyset pagination.
+   *
+   * <p>Only {@code limit + 1} rows are read from the database, so the cost of a page doesn't
+   * depend on the size of the table nor on how deep the client has paged.
+   *
+   * @param after the cursor returned by the previous page, or {@code null} for the first page
+   * @param limit the maximum number of projects to return
+   * @param sort the sort key of the listing
+   * @param format how to render the projects' timestamps
+   * @return the requested page of projects
+   * @throws BadRequestException if the cursor is malformed or was issued for another sort
+   */
+  public CursorPage<ProjectPresenter> getPage(
+      String after, int limit, PageSort sort, TimeFormat format) throws BadRequestException {
+    int size = CursorPage.clampLimit(limit);
+    Pageable window = PageRequest.of(0, size + 1);
+    PageCursor cursor = after == null || after.isBlank() ? null : PageCursor.decode(after, sort);
+
+    List<ProjectView> rows =
+        switch (sort) {
+          case NAME ->
+              cursor == null
+                  ? projectRepository.findPageOrderByName(window)
+                  : projectRepository.findPageAfterName(cursor.key(), cursor.id(), window);
+          case UPDATED_AT ->
+              cursor == null
+                  ? projectRepository.findPageOrderByUpdatedAt(window)
+                  : projectRepository.findPageAfterUpdatedAt(
+                      cursor.instantKey(), cursor.id(), window);
+          case CREATED_AT ->
+              cursor == null
+                  ? projectRepository.findPageOrderByCreatedAt(window)
+                  : projectRepository.findPageAfterCreatedAt(
+                      cursor.instantKey(), cursor.id(), window);
+        };
+
+    CursorPage<ProjectView> page =
+        CursorPage.of(
+            rows, size, view -> PageCursor.encode(sort, sortKey(view, sort), view.id()));
+    return new CursorPage<>(present(page.items(), format), page.nextCursor(), page.hasMore());
+  }
+
+  private static String sortKey(ProjectView view, PageSort sort) {
+    return switch (sort) {
+      case NAME -> view.name();
+      case UPDATED_AT -> view.updatedAt().toString();
+      case CREATED_AT -> view.createdAt().toString();
+    };
   }
 
   /**
    * Retrieves a project by its ID.
    *
    * @param id the ID of the project to retrieve
+   * @param format how to render the project's timestamps
    * @return a presenter DTO of the project
    * @throws EntityNotFoundException if no project with the specified ID is found
    */
-  public ProjectPresenter get(Long id) throws EntityNotFoundException {
-    Project project =
+  public ProjectPresenter get(Long id, TimeFormat format) throws EntityNotFoundException {
+    ProjectView project =
         projectRepository
-            .findById(id)
+            .findViewById(id)
             .orElseThrow(() -> new EntityNotFoundException("Project not found"));
 
-    return ProjectPresenter.from(project);
+    return present(List.of(project), format).get(0);
   }
 
   /**
    * Registers a new project with the given input data.
    *
+   * <p>Server validation is set-based: all the missing server IDs are found with one query and
+   * reported together, and membership conflicts are checked with another, so the number of round
+   * trips doesn't grow with the number of servers.
+   *
    * @param input the input data containing project details and server IDs
    * @return the newly created Project entity
-   * @throws EntityExistsException i
+   * @throws EntityExistsException if the name is taken or a server is already in the project
    * @throws EntityNotFoundException if any of the specified servers are not found
    */
+  @Transactional
   public Project register(ProjectRegisterInput input)
       throws EntityExistsException, EntityNotFoundException {
     if (projectRepository.existsByName(input.name())) {
       throw new EntityExistsException("There's already a project with the specified name!");
     }
 
-    for (Long serverId : input.serverIds()) {
-      if (!serverService.existsById(serverId)) {
-        throw new EntityNotFoundException(String.format("Server id %d not found", serverId));
-      }
+    List<Long> serverIds = List.copyOf(new LinkedHashSet<>(input.serverIds()));
+    List<Long> missingIds = serverService.findMissingIds(serverIds);
+    if (!missingIds.isEmpty()) {
+      throw new EntityNotFoundException(String.format("Server ids %s not found", missingIds));
     }
 
-    List<Server> serversSelected = emh.referencesByLong(Server.class, input.serverIds());
+    List<Server> serversSelected = emh.referencesByLong(Server.class, serverIds);
 
-    if (isAnyServerRegisteredInProject(input.name(), input.serverIds())) {
+    if (isAnyServerRegisteredInProject(input.name(), serverIds)) {
       throw new EntityExistsException("Server is already registered in project");
     }
 
@@ -122,7 +311,9 @@ public class ProjectService extends BaseService<Project, ProjectPresenter, Proje
             .details(input.details())
             .build();
 
-    return projectRepository.save(project);
+    Project saved = projectRepository.save(project);
+    eventPublisher.publishEvent(ChangeEvent.projectRegistered(present(saved)));
+    return saved;
   }
 
   /**
@@ -130,12 +321,12 @@ public class ProjectService extends BaseService<Project, ProjectPresenter, Proje
    *
    * @param input the input data containing updated project details
    * @return the updated Project entity
-   * @throws IllegalArgumentException if the input does not contain an ID
+   * @throws BadRequestException if the input does not contain an ID
    * @throws EntityNotFoundException if no project with the specified ID is found
    */
-  public Project update(ProjectRegisterInput input) throws IllegalArgumentException {
+  public Project update(ProjectRegisterInput input) throws BadRequestException {
     if (input.id().isEmpty()) {
-      throw new IllegalArgumentException("id is required!");
+      throw new BadRequestException("id is required!");
     }
 
     Project project =
@@ -147,9 +338,88 @@ public class ProjectService extends BaseService<Project, ProjectPresenter, Proje
 
     ProjectStatus status = emh.reference(ProjectStatus.class, input.statusId());
 
+    ProjectPresenter previous = present(project);
     project.update(input.name(), serversSelected, status, input.details());
 
-    return projectRepository.save(project);
+    Project saved = projectRepository.save(project);
+    eventPublisher.publishEvent(
+        ChangeEvent.project(ChangeEvent.Action.UPDATED, previous, present(saved)));
+    return saved;
+  }
+
+  /**
+   * Changes only the given fields of a project, without loading the entity.
+   *
+   * <p>The project's flat projection is read to check the version and to publish the change, then
+   * a single UPDATE writes the given columns, as long as the version is still the one the client
+   * read. The {@code project_servers} rows aren't touched; the servers are read with one query
+   * once the update succeeded, so the published {@code project.updated} event carries the full
+   * project, like the one published by {@link #update}, and clients applying it keep the servers.
+   *
+   * @param input the fields to change, with the id and version of the project
+   * @param format how to render the project's timestamps
+   * @return the project after the change
+   * @throws BadRequestException if the id or version is missing, or the name is blank
+   * @throws EntityNotFoundException if the project or status doesn't exist
+   * @throws EntityExistsException if another project already has the new name
+   * @throws OptimisticLockException if the project changed since the client read its version
+   */
+  @Transactional
+  public ProjectPresenter patch(ProjectPatchInput input, TimeFormat format)
+      throws BadRequestException,
+          EntityNotFoundException,
+          EntityExistsException,
+          OptimisticLockException {
+    if (input.id() == null) {
+      throw new BadRequestException("id is required!");
+    }
+    if (input.version() == null) {
+      throw new BadRequestException("version is required!");
+    }
+    if (input.name() != null && input.name().isBlank()) {
+      throw new BadRequestException("Project name can't be blank");
+    }
+
+    ProjectView view =
+        projectRepository
+            .findViewById(input.id())
+            .orElseThrow(() -> new EntityNotFoundException("Couldn't find specified project"));
+    if (view.version() != input.version()) {
+      throw new OptimisticLockException("Project was changed since it was read, reload it.");
+    }
+    if (input.name() != null
+        && !input.name().equals(view.name())
+        && projectRepository.existsByName(input.name())) {
+      throw new EntityExistsException("There's already a project with the specified name!");
+    }
+
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    ProjectView patched =
+        new ProjectView(
+            view.id(),
+            Objects.requireNonNullElse(input.name(), view.name()),
+            Objects.requireNonNullElse(input.details(), view.details()),
+            input.statusId() == null
+                ? view.statusName()
+                : referenceDataCache.projectStatusName(input.statusId()),
+            view.createdAt(),
+            now,
+            view.version() + 1);
+
+    boolean updated =
+        patchRepository.patchProject(
+            view.id(), view.version(), now, input.name(), input.details(), input.statusId());
+    if (!updated) {
+      throw new OptimisticLockException("Project was changed since it was read, reload it.");
+    }
+
+    List<ServerPresenter> servers = present(List.of(view), TimeFormat.ABSOLUTE).get(0).servers;
+    eventPublisher.publishEvent(
+        ChangeEvent.project(
+            ChangeEvent.Action.UPDATED,
+            ProjectPresenter.from(view, servers, TimeFormat.ABSOLUTE),
+            ProjectPresenter.from(patched, servers, TimeFormat.ABSOLUTE)));
+    return ProjectPresenter.from(patched, servers, format);
   }
 
   /**
@@ -159,7 +429,22 @@ public class ProjectService extends BaseService<Project, ProjectPresenter, Proje
    * @return a confirmation message
    */
   public String delete(Long id) {
-    projectRepository.deleteById(id);
+    projectRepository
+        .findById(id)
+        .ifPresent(
+            project -> {
+              ProjectPresenter previous = present(project);
+              projectRepository.delete(project);
+              eventPublisher.publishEvent(ChangeEvent.projectDeleted(previous));
+            });
     return "Deleted sucessfully";
   }
+
+  /**
+   * Presents a project for a {@link ChangeEvent}. Events carry absolute timestamps, so every
+   * subscriber receives the same payload no matter when it's delivered.
+   */
+  private static ProjectPresenter present(Project project) {
+    return ProjectPresenter.from(project, TimeFormat.ABSOLUTE);
+  }
 }
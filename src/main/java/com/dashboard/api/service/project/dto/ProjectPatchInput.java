@@ -0,0 +1,14 @@
+package com.dashboard.api.service.project.dto;
+
+/**
+ * Data transfer object for a partial update of a project. Fields left {@code null} keep their
+ * current value; the servers of a project are changed through a full update.
+ *
+ * @param id the id of the project to update
+ * @param version the {@code version} of the project the change is based on
+ * @param name the new name
+ * @param details the new details
+ * @param statusId the id of the new project status
+ */
+public record ProjectPatchInput(
+    Long id, Long version, String name, String details, Integer statusId) {}
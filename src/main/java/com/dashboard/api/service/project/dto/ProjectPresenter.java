@@ -3,20 +3,39 @@ package com.dashboard.api.service.project.dto;
 import com.dashboard.api.domain.project.Project;
 import com.dashboard.api.helpers.StringUtils;
 import com.dashboard.api.helpers.TimeUtils;
+import com.dashboard.api.persistence.jpa.project.ProjectView;
+import com.dashboard.api.service.base.presentation.TimeFormat;
 import com.dashboard.api.service.server.dto.ServerPresenter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-/** DTO class to represent project data for presentation layer. */
+/**
+ * DTO class to represent project data for presentation layer.
+ *
+ * <p>Depending on the {@link TimeFormat}, either {@code lastUpdate} carries a relative label or
+ * {@code updatedAt} and {@code createdAt} carry the raw instants; the fields of the other format
+ * are left out of the JSON.
+ */
 public class ProjectPresenter {
   public Long id;
   public String name;
   public List<ServerPresenter> servers;
   public String status;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   public String lastUpdate;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public Instant updatedAt;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public Instant createdAt;
+
   public String details;
+  public long version;
 
   /**
    * Constructs a ProjectPresenter.
@@ -43,6 +62,32 @@ public class ProjectPresenter {
     this.lastUpdate = lastUpdated;
   }
 
+  private ProjectPresenter(
+      Long id,
+      String name,
+      List<ServerPresenter> servers,
+      String details,
+      String status,
+      Instant createdAt,
+      Instant updatedAt,
+      long version,
+      TimeFormat format) {
+    this(
+        id,
+        name,
+        servers,
+        details,
+        status,
+        format == TimeFormat.RELATIVE
+            ? TimeUtils.formatRelativeTime(updatedAt, Instant.now())
+            : null);
+    this.version = version;
+    if (format == TimeFormat.ABSOLUTE) {
+      this.createdAt = createdAt;
+      this.updatedAt = updatedAt;
+    }
+  }
+
   /**
    * Maps a Project domain entity to a ProjectPresenter DTO.
    *
@@ -50,6 +95,18 @@ public class ProjectPresenter {
    * @return a ProjectPresenter representing the project
    */
   public static ProjectPresenter from(Project project) {
+    return from(project, TimeFormat.RELATIVE);
+  }
+
+  /**
+   * Maps a Project domain entity to a ProjectPresenter DTO, with timestamps rendered in the given
+   * format.
+   *
+   * @param project the Project entity
+   * @param format how to render the project's timestamps
+   * @return a ProjectPresenter representing the project
+   */
+  public static ProjectPresenter from(Project project, TimeFormat format) {
     List<ServerPresenter> servers = ServerPresenter.fromMany(new ArrayList<>(project.getServers()));
     return new ProjectPresenter(
         project.getId(),
@@ -57,7 +114,44 @@ public class ProjectPresenter {
         servers,
         project.getDetails(),
         StringUtils.capitalizeWord(project.getStatusName()),
-        TimeUtils.formatRelativeTime(project.getUpdatedAt(), Instant.now()));
+        project.getCreatedAt(),
+        project.getUpdatedAt(),
+        project.getVersion(),
+        format);
+  }
+
+  /**
+   * Maps a ProjectView projection and its already loaded servers to a ProjectPresenter DTO.
+   *
+   * @param project the flat project projection
+   * @param servers the presenters of the project's servers
+   * @return a ProjectPresenter representing the project
+   */
+  public static ProjectPresenter from(ProjectView project, List<ServerPresenter> servers) {
+    return from(project, servers, TimeFormat.RELATIVE);
+  }
+
+  /**
+   * Maps a ProjectView projection and its already loaded servers to a ProjectPresenter DTO, with
+   * timestamps rendered in the given format.
+   *
+   * @param project the flat project projection
+   * @param servers the presenters of the project's servers
+   * @param format how to render the project's timestamps
+   * @return a ProjectPresenter representing the project
+   */
+  public static ProjectPresenter from(
+      ProjectView project, List<ServerPresenter> servers, TimeFormat format) {
+    return new ProjectPresenter(
+        project.id(),
+        project.name(),
+        servers,
+        project.details(),
+        StringUtils.capitalizeWord(project.statusName()),
+        project.createdAt(),
+        project.updatedAt(),
+        project.version(),
+        format);
   }
 
   /**
@@ -0,0 +1,47 @@
+package com.dashboard.api.service.project.dto;
+
+import com.dashboard.api.helpers.StringUtils;
+import com.dashboard.api.persistence.jpa.project.ProjectSummaryView;
+import java.time.Instant;
+
+/** DTO class representing a project without its servers, for overviews of many projects. */
+public class ProjectSummaryPresenter {
+  public Long id;
+  public String name;
+  public String status;
+  public int serverCount;
+  public Instant updatedAt;
+
+  /**
+   * Constructs a ProjectSummaryPresenter.
+   *
+   * @param id project ID
+   * @param name project name
+   * @param status current status of the project
+   * @param serverCount number of servers in the project
+   * @param updatedAt when the project was last updated
+   */
+  public ProjectSummaryPresenter(
+      Long id, String name, String status, int serverCount, Instant updatedAt) {
+    this.id = id;
+    this.name = name;
+    this.status = status;
+    this.serverCount = serverCount;
+    this.updatedAt = updatedAt;
+  }
+
+  /**
+   * Maps a ProjectSummaryView projection to a ProjectSummaryPresenter DTO.
+   *
+   * @param view the project summary projection
+   * @return a ProjectSummaryPresenter representing the project
+   */
+  public static ProjectSummaryPresenter from(ProjectSummaryView view) {
+    return new ProjectSummaryPresenter(
+        view.id(),
+        view.name(),
+        StringUtils.capitalizeWord(view.statusName()),
+        view.serverCount(),
+        view.updatedAt());
+  }
+}
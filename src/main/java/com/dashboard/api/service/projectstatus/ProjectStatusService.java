@@ -2,6 +2,7 @@ package com.dashboard.api.service.projectstatus;
 
 import com.dashboard.api.domain.projectstatus.ProjectStatus;
 import com.dashboard.api.persistence.jpa.projectstatus.ProjectStatusRepository;
+import com.dashboard.api.service.referencedata.ReferenceDataCache;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 
@@ -13,14 +14,18 @@ import org.springframework.stereotype.Service;
 public class ProjectStatusService {
 
   private final ProjectStatusRepository projectStatusRepository;
+  private final ReferenceDataCache referenceDataCache;
 
   /**
    * Constructs a ProjectStatusService with the specified repository.
    *
    * @param projectStatusRepository repository to manage ProjectStatus entities
+   * @param referenceDataCache cache of the reference tables, used for id lookups
    */
-  public ProjectStatusService(ProjectStatusRepository projectStatusRepository) {
+  public ProjectStatusService(
+      ProjectStatusRepository projectStatusRepository, ReferenceDataCache referenceDataCache) {
     this.projectStatusRepository = projectStatusRepository;
+    this.referenceDataCache = referenceDataCache;
   }
 
   /**
@@ -31,10 +36,7 @@ public class ProjectStatusService {
    * @throws EntityNotFoundException if no project status with the given name is found
    */
   public int getStatusIdByName(String name) throws EntityNotFoundException {
-    return projectStatusRepository
-        .findByName(name)
-        .orElseThrow(() -> new EntityNotFoundException(name))
-        .getId();
+    return referenceDataCache.projectStatusId(name);
   }
 
   /**
@@ -53,12 +55,13 @@ public class ProjectStatusService {
   /**
    * Returns the default status. Usually "ACTIVE".
    *
+   * <p>The id comes from the reference data cache, so this returns an uninitialized reference and
+   * doesn't query the database.
+   *
    * @return Default project status ID.
    * @throws EntityNotFoundException if no defaults are found.
    */
   public ProjectStatus getDefault() throws EntityNotFoundException {
-    return projectStatusRepository
-        .findByIsDefaultTrue()
-        .orElseThrow(() -> new EntityNotFoundException("Can't find default project status"));
+    return projectStatusRepository.getReferenceById(referenceDataCache.defaultProjectStatusId());
   }
 }
@@ -0,0 +1,49 @@
+package com.dashboard.api.service.referencedata;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable id/name maps of a small lookup table (statuses, types, regions).
+ *
+ * @param namesById the name of each row, by id
+ * @param idsByName the id of each row, by name
+ */
+public record LookupTable(Map<Integer, String> namesById, Map<String, Integer> idsByName) {
+
+  /**
+   * Builds a lookup table from the rows of an entity.
+   *
+   * @param <T> the entity type
+   * @param rows every row of the table
+   * @param id function extracting the row id
+   * @param name function extracting the row name
+   * @return the lookup table
+   */
+  public static <T> LookupTable of(
+      Collection<T> rows, Function<T, Integer> id, Function<T, String> name) {
+    Map<Integer, String> namesById = new HashMap<>();
+    Map<String, Integer> idsByName = new HashMap<>();
+    for (T row : rows) {
+      namesById.put(id.apply(row), name.apply(row));
+      idsByName.put(name.apply(row), id.apply(row));
+    }
+    return new LookupTable(Map.copyOf(namesById), Map.copyOf(idsByName));
+  }
+
+  public Optional<Integer> idOf(String name) {
+    return Optional.ofNullable(idsByName.get(name));
+  }
+
+  public Optional<String> nameOf(int id) {
+    return Optional.ofNullable(namesById.get(id));
+  }
+
+  public Set<Integer> ids() {
+    return namesById.keySet();
+  }
+}
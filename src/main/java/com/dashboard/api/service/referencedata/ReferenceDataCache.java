@@ -0,0 +1,264 @@
+package com.dashboard.api.service.referencedata;
+
+import com.dashboard.api.domain.projectstatus.ProjectStatus;
+import com.dashboard.api.domain.region.Region;
+import com.dashboard.api.domain.serverstatus.ServerStatus;
+import com.dashboard.api.domain.servertype.ServerType;
+import com.dashboard.api.persistence.jpa.projectstatus.ProjectStatusRepository;
+import com.dashboard.api.persistence.jpa.region.RegionRepository;
+import com.dashboard.api.persistence.jpa.serverstatus.ServerStatusRepository;
+import com.dashboard.api.persistence.jpa.servertypes.ServerTypeRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory cache of the reference tables: server statuses, server types, regions and project
+ * statuses.
+ *
+ * <p>These tables are tiny and almost never change, so they are held as an immutable {@link
+ * Snapshot} that is swapped atomically on reload. Reads are plain map lookups on a volatile field
+ * and never take a lock. The snapshot is loaded on first use or once the application is ready
+ * (after the seeders ran) and reloaded every {@code reference-data.refresh-interval} (five minutes
+ * by default). The API never writes these tables, so rows added behind its back are picked up by a
+ * lookup that misses, which triggers a reload at most once per {@code
+ * reference-data.miss-refresh-interval} (five seconds by default). Misses in between, such as
+ * requests with bogus ids, fail against the current snapshot without touching the database or
+ * waiting for a reload.
+ */
+@Component
+public class ReferenceDataCache {
+
+  /**
+   * A consistent view of every reference table.
+   *
+   * @param serverStatuses the server statuses
+   * @param serverTypes the server types
+   * @param regions the regions
+   * @param projectStatuses the project statuses
+   * @param defaultProjectStatusId the id of the default project status, if any
+   */
+  public record Snapshot(
+      LookupTable serverStatuses,
+      LookupTable serverTypes,
+      LookupTable regions,
+      LookupTable projectStatuses,
+      Optional<Integer> defaultProjectStatusId) {}
+
+  private final ServerStatusRepository serverStatusRepository;
+  private final ServerTypeRepository serverTypeRepository;
+  private final RegionRepository regionRepository;
+  private final ProjectStatusRepository projectStatusRepository;
+  private final ReentrantLock reloadLock = new ReentrantLock();
+  private final long missRefreshIntervalNanos;
+  private final AtomicLong lastMissRefresh;
+
+  private volatile Snapshot snapshot;
+
+  /**
+   * Constructs the cache with the repositories of the reference tables.
+   *
+   * @param serverStatusRepository repository of server statuses
+   * @param serverTypeRepository repository of server types
+   * @param regionRepository repository of regions
+   * @param projectStatusRepository repository of project statuses
+   * @param missRefreshInterval the minimum time between two reloads triggered by lookup misses
+   */
+  public ReferenceDataCache(
+      ServerStatusRepository serverStatusRepository,
+      ServerTypeRepository serverTypeRepository,
+      RegionRepository regionRepository,
+      ProjectStatusRepository projectStatusRepository,
+      @Value("${reference-data.miss-refresh-interval:PT5S}") Duration missRefreshInterval) {
+    this.serverStatusRepository = serverStatusRepository;
+    this.serverTypeRepository = serverTypeRepository;
+    this.regionRepository = regionRepository;
+    this.projectStatusRepository = projectStatusRepository;
+    this.missRefreshIntervalNanos = missRefreshInterval.toNanos();
+    this.lastMissRefresh = new AtomicLong(System.nanoTime() - missRefreshIntervalNanos);
+  }
+
+  /** Reloads every reference table from the database and publishes the new snapshot. */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      fixedDelayString = "${reference-data.refresh-interval:PT5M}",
+      initialDelayString = "${reference-data.refresh-interval:PT5M}")
+  public void refresh() {
+    reloadLock.lock();
+    try {
+      List<ProjectStatus> projectStatuses = projectStatusRepository.findAll();
+      snapshot =
+          new Snapshot(
+              LookupTable.of(
+                  serverStatusRepository.findAll(), ServerStatus::getId, ServerStatus::getName),
+              LookupTable.of(
+                  serverTypeRepository.findAll(), ServerType::getId, ServerType::getName),
+              LookupTable.of(regionRepository.findAll(), Region::getId, Region::getName),
+              LookupTable.of(projectStatuses, ProjectStatus::getId, ProjectStatus::getName),
+              projectStatuses.stream()
+                  .filter(ProjectStatus::isDefault)
+                  .map(ProjectStatus::getId)
+                  .findFirst());
+    } finally {
+      reloadLock.unlock();
+    }
+  }
+
+  /**
+   * Returns the current snapshot, loading it on first use.
+   *
+   * @return the current snapshot
+   */
+  public Snapshot current() {
+    Snapshot current = snapshot;
+    if (current == null) {
+      refresh();
+      current = snapshot;
+    }
+    return current;
+  }
+
+  /**
+   * Reloads the snapshot after a lookup missed, unless a miss already did so within the last
+   * {@code reference-data.miss-refresh-interval}. Only one of the concurrent misses reloads; the
+   * others return right away.
+   *
+   * @return {@code true} if the snapshot was reloaded
+   */
+  private boolean refreshOnMiss() {
+    long now = System.nanoTime();
+    long last = lastMissRefresh.get();
+    if (now - last < missRefreshIntervalNanos || !lastMissRefresh.compareAndSet(last, now)) {
+      return false;
+    }
+    refresh();
+    return true;
+  }
+
+  private int idOf(Function<Snapshot, LookupTable> table, String name, String notFound) {
+    Optional<Integer> id = table.apply(current()).idOf(name);
+    if (id.isEmpty() && refreshOnMiss()) {
+      id = table.apply(snapshot).idOf(name);
+    }
+    return id.orElseThrow(() -> new EntityNotFoundException(notFound));
+  }
+
+  private String nameOf(Function<Snapshot, LookupTable> table, int id, String notFound) {
+    Optional<String> name = table.apply(current()).nameOf(id);
+    if (name.isEmpty() && refreshOnMiss()) {
+      name = table.apply(snapshot).nameOf(id);
+    }
+    return name.orElseThrow(() -> new EntityNotFoundException(notFound));
+  }
+
+  /**
+   * Returns the id of a server status.
+   *
+   * @param name the status name
+   * @return the status id
+   * @throws EntityNotFoundException if no status has this name
+   */
+  public int serverStatusId(String name) throws EntityNotFoundException {
+    return idOf(Snapshot::serverStatuses, name, "Specified server status not found");
+  }
+
+  /**
+   * Returns the id of a server type.
+   *
+   * @param name the type name
+   * @return the type id
+   * @throws EntityNotFoundException if no type has this name
+   */
+  public int serverTypeId(String name) throws EntityNotFoundException {
+    return idOf(Snapshot::serverTypes, name, "Specified server type not found");
+  }
+
+  /**
+   * Returns the id of a region.
+   *
+   * @param name the region name
+   * @return the region id
+   * @throws EntityNotFoundException if no region has this name
+   */
+  public int regionId(String name) throws EntityNotFoundException {
+    return idOf(Snapshot::regions, name, "Specified region not found");
+  }
+
+  /**
+   * Returns the id of a project status.
+   *
+   * @param name the status name
+   * @return the status id
+   * @throws EntityNotFoundException if no status has this name
+   */
+  public int projectStatusId(String name) throws EntityNotFoundException {
+    return idOf(Snapshot::projectStatuses, name, name);
+  }
+
+  /**
+   * Returns the name of a server status.
+   *
+   * @param id the status id
+   * @return the status name
+   * @throws EntityNotFoundException if no status has this id
+   */
+  public String serverStatusName(int id) throws EntityNotFoundException {
+    return nameOf(Snapshot::serverStatuses, id, "Specified server status not found");
+  }
+
+  /**
+   * Returns the name of a server type.
+   *
+   * @param id the type id
+   * @return the type name
+   * @throws EntityNotFoundException if no type has this id
+   */
+  public String serverTypeName(int id) throws EntityNotFoundException {
+    return nameOf(Snapshot::serverTypes, id, "Specified server type not found");
+  }
+
+  /**
+   * Returns the name of a region.
+   *
+   * @param id the region id
+   * @return the region name
+   * @throws EntityNotFoundException if no region has this id
+   */
+  public String regionName(int id) throws EntityNotFoundException {
+    return nameOf(Snapshot::regions, id, "Specified region not found");
+  }
+
+  /**
+   * Returns the name of a project status.
+   *
+   * @param id the status id
+   * @return the status name
+   * @throws EntityNotFoundException if no status has this id
+   */
+  public String projectStatusName(int id) throws EntityNotFoundException {
+    return nameOf(Snapshot::projectStatuses, id, "Specified project status not found");
+  }
+
+  /**
+   * Returns the id of the default project status.
+   *
+   * @return the default status id
+   * @throws EntityNotFoundException if no project status is marked as default
+   */
+  public int defaultProjectStatusId() throws EntityNotFoundException {
+    Optional<Integer> id = current().defaultProjectStatusId();
+    if (id.isEmpty() && refreshOnMiss()) {
+      id = snapshot.defaultProjectStatusId();
+    }
+    return id.orElseThrow(() -> new EntityNotFoundException("Can't find default project status"));
+  }
+}
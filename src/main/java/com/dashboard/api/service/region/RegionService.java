@@ -2,8 +2,10 @@ package com.dashboard.api.service.region;
 
 import com.dashboard.api.domain.region.Region;
 import com.dashboard.api.persistence.jpa.region.RegionRepository;
+import com.dashboard.api.service.referencedata.ReferenceDataCache;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 
 /**
@@ -13,9 +15,11 @@ import org.springframework.stereotype.Service;
 @Service
 public class RegionService {
   private final RegionRepository regionRepository;
+  private final ReferenceDataCache referenceDataCache;
 
-  public RegionService(RegionRepository regionRepository) {
+  public RegionService(RegionRepository regionRepository, ReferenceDataCache referenceDataCache) {
     this.regionRepository = regionRepository;
+    this.referenceDataCache = referenceDataCache;
   }
 
   /**
@@ -51,4 +55,13 @@ public class RegionService {
 
     return status.get();
   }
+
+  /**
+   * Retrieves the IDs of every {@link Region}, from the reference data cache.
+   *
+   * @return the set of existing region IDs
+   */
+  public Set<Integer> getIds() {
+    return referenceDataCache.current().regions().ids();
+  }
 }
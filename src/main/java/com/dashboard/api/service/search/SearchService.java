@@ -0,0 +1,67 @@
+package com.dashboard.api.service.search;
+
+import com.dashboard.api.domain.exception.BadRequestException;
+import com.dashboard.api.persistence.search.SearchHitView;
+import com.dashboard.api.persistence.search.SearchRepository;
+import com.dashboard.api.service.base.pagination.CursorPage;
+import com.dashboard.api.service.search.dto.SearchHitPresenter;
+import io.micrometer.observation.annotation.Observed;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/** Service searching servers, projects and regions by name, details and region code. */
+@Service
+@Observed(name = "dashboard.service")
+public class SearchService {
+  static final int MAX_TERM_LENGTH = 200;
+
+  private final SearchRepository searchRepository;
+
+  public SearchService(SearchRepository searchRepository) {
+    this.searchRepository = searchRepository;
+  }
+
+  /**
+   * Searches servers, projects and regions, most relevant first.
+   *
+   * <p>Results are ranked, so they're paginated by position: the cursor is the number of results
+   * already returned, and paging stops at {@link SearchRepository#CANDIDATES} results per kind.
+   *
+   * @param q the search term
+   * @param after the {@code nextCursor} of the previous page, or {@code null} for the first page
+   * @param limit the page size
+   * @return the requested page of results
+   * @throws BadRequestException if the term is blank or too long, or the cursor is malformed
+   */
+  public CursorPage<SearchHitPresenter> search(String q, String after, int limit)
+      throws BadRequestException {
+    String term = q == null ? "" : q.strip();
+    if (term.isEmpty()) {
+      throw new BadRequestException("q is required!");
+    }
+    if (term.length() > MAX_TERM_LENGTH) {
+      throw new BadRequestException("q can't be longer than " + MAX_TERM_LENGTH);
+    }
+
+    int size = CursorPage.clampLimit(limit);
+    int offset = decodeOffset(after);
+    List<SearchHitView> rows = searchRepository.search(term, size + 1, offset);
+    return CursorPage.of(rows, size, row -> Integer.toString(offset + size))
+        .map(SearchHitPresenter::from);
+  }
+
+  private static int decodeOffset(String after) {
+    if (after == null || after.isBlank()) {
+      return 0;
+    }
+    try {
+      int offset = Integer.parseInt(after);
+      if (offset < 0) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      return offset;
+    } catch (NumberFormatException e) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.dashboard.api.service.search.dto;
+
+import com.dashboard.api.persistence.search.SearchHitView;
+
+/** DTO class representing one search result. */
+public class SearchHitPresenter {
+  public String kind;
+  public Long id;
+  public String name;
+  public String context;
+  public double rank;
+
+  /**
+   * Constructs a SearchHitPresenter.
+   *
+   * @param kind what was found: "server", "project" or "region"
+   * @param id the id of the entity
+   * @param name the name of the entity
+   * @param context a project's details or a region's code
+   * @param rank the relevance of the result
+   */
+  public SearchHitPresenter(String kind, Long id, String name, String context, double rank) {
+    this.kind = kind;
+    this.id = id;
+    this.name = name;
+    this.context = context;
+    this.rank = rank;
+  }
+
+  /**
+   * Maps a SearchHitView to a SearchHitPresenter DTO.
+   *
+   * @param view the search result
+   * @return a SearchHitPresenter representing the result
+   */
+  public static SearchHitPresenter from(SearchHitView view) {
+    return new SearchHitPresenter(view.kind(), view.id(), view.name(), view.context(), view.rank());
+  }
+}
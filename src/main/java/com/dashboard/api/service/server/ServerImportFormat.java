@@ -0,0 +1,104 @@
+package com.dashboard.api.service.server;
+
+import com.dashboard.api.domain.exception.BadRequestException;
+import com.dashboard.api.service.server.dto.ServerRegisterInput;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Payload formats accepted by the bulk server import.
+ *
+ * <p>Both formats carry one server per line. CSV rows are {@code name,regionId,typeId}, optionally
+ * preceded by a header row made of exactly those column names, ignoring case and surrounding
+ * spaces. NDJSON rows are {@link ServerRegisterInput} JSON objects.
+ */
+public enum ServerImportFormat {
+  CSV(MediaType.valueOf("text/csv")) {
+    @Override
+    public boolean isHeader(String line) {
+      String[] columns = line.split(",", -1);
+      if (columns.length != HEADER.length) {
+        return false;
+      }
+      for (int i = 0; i < columns.length; i++) {
+        if (!columns[i].trim().equalsIgnoreCase(HEADER[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public ServerRegisterInput parse(String line, ObjectMapper objectMapper) {
+      String[] columns = line.split(",", -1);
+      if (columns.length != 3) {
+        throw new IllegalArgumentException("Expected name,regionId,typeId");
+      }
+
+      return new ServerRegisterInput(
+          columns[0].trim(),
+          Integer.parseInt(columns[1].trim()),
+          Integer.parseInt(columns[2].trim()));
+    }
+  },
+  NDJSON(MediaType.valueOf("application/x-ndjson")) {
+    @Override
+    public ServerRegisterInput parse(String line, ObjectMapper objectMapper) throws IOException {
+      return objectMapper.readValue(line, ServerRegisterInput.class);
+    }
+  };
+
+  private static final String[] HEADER = {"name", "regionId", "typeId"};
+
+  private final MediaType mediaType;
+
+  ServerImportFormat(MediaType mediaType) {
+    this.mediaType = mediaType;
+  }
+
+  /**
+   * Tells whether the first line of a payload is a header to skip.
+   *
+   * @param line the first non-blank line of the payload
+   * @return true if the line is a header
+   */
+  public boolean isHeader(String line) {
+    return false;
+  }
+
+  /**
+   * Parses a single row of the payload.
+   *
+   * @param line the row to parse
+   * @param objectMapper the mapper used for JSON rows
+   * @return the server described by the row
+   * @throws IOException if a JSON row can't be read
+   * @throws IllegalArgumentException if the row is malformed
+   */
+  public abstract ServerRegisterInput parse(String line, ObjectMapper objectMapper)
+      throws IOException;
+
+  /**
+   * Resolves the format of a payload from its Content-Type.
+   *
+   * @param contentType the Content-Type header of the request
+   * @return the matching format
+   * @throws BadRequestException if the content type is malformed or isn't supported
+   */
+  public static ServerImportFormat fromContentType(String contentType) {
+    MediaType requested;
+    try {
+      requested = MediaType.parseMediaType(contentType);
+    } catch (InvalidMediaTypeException e) {
+      throw new BadRequestException("Invalid content type: " + contentType, e);
+    }
+    for (ServerImportFormat format : values()) {
+      if (format.mediaType.isCompatibleWith(requested)) {
+        return format;
+      }
+    }
+    throw new BadRequestException("Unsupported import format: " + contentType);
+  }
+}
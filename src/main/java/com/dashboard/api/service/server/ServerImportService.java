@@ -0,0 +1,275 @@
+package com.dashboard.api.service.server;
+
+import com.dashboard.api.domain.entitymanager.EntityManagerHelper;
+import com.dashboard.api.domain.region.Region;
+import com.dashboard.api.domain.server.Server;
+import com.dashboard.api.domain.serverstatus.ServerStatus;
+import com.dashboard.api.domain.servertype.ServerType;
+import com.dashboard.api.persistence.jpa.server.ServerRepository;
+import com.dashboard.api.service.fleet.FleetService;
+import com.dashboard.api.service.region.RegionService;
+import com.dashboard.api.service.server.dto.ServerImportRowResult;
+import com.dashboard.api.service.server.dto.ServerImportSummary;
+import com.dashboard.api.service.server.dto.ServerRegisterInput;
+import com.dashboard.api.service.serverstatus.ServerStatusService;
+import com.dashboard.api.service.servertype.ServerTypeService;
+import com.dashboard.api.service.suggest.SuggestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.PersistenceException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service that imports servers in bulk from a streamed CSV or NDJSON payload.
+ *
+ * <p>The payload is read line by line and processed in chunks of {@link #CHUNK_SIZE} rows. For each
+ * chunk the names are checked against the database with a single query, and the new servers are
+ * inserted in their own transaction through Hibernate's JDBC batching, with ids taken from the
+ * pooled {@code servers} sequence. If that batch fails, its rows are retried one by one so only the
+ * offending rows are rejected. The persistence context is cleared after every chunk, so memory use
+ * doesn't grow with the size of the payload.
+ */
+@Service
+public class ServerImportService {
+  static final int CHUNK_SIZE = 500;
+
+  private final EntityManagerHelper emh;
+  private final ServerRepository serverRepository;
+  private final ServerStatusService serverStatusService;
+  private final RegionService regionService;
+  private final ServerTypeService serverTypeService;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final FleetService fleetService;
+  private final SuggestService suggestService;
+
+  /**
+   * Constructs the ServerImportService with required repositories and services.
+   *
+   * @param entityManagerHelper helper used to build references and clear the persistence context
+   * @param serverRepository the repository for Server entities
+   * @param serverStatusService the service for Server status management
+   * @param regionService the service used to validate region ids
+   * @param serverTypeService the service used to validate server type ids
+   * @param objectMapper the mapper used to read NDJSON rows
+   * @param transactionManager the manager used to run each chunk in its own transaction
+   * @param fleetService the service whose counts are recounted after an import
+   * @param suggestService the service whose names are reloaded after an import
+   */
+  public ServerImportService(
+      EntityManagerHelper entityManagerHelper,
+      ServerRepository serverRepository,
+      ServerStatusService serverStatusService,
+      RegionService regionService,
+      ServerTypeService serverTypeService,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      FleetService fleetService,
+      SuggestService suggestService) {
+    this.emh = entityManagerHelper;
+    this.serverRepository = serverRepository;
+    this.serverStatusService = serverStatusService;
+    this.regionService = regionService;
+    this.serverTypeService = serverTypeService;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.fleetService = fleetService;
+    this.suggestService = suggestService;
+  }
+
+  /**
+   * Imports every server described in the payload.
+   *
+   * <p>Rows that are malformed, reference an unknown region or type, or use a name that is already
+   * taken (in the database or earlier in the payload) are rejected and reported; every other row is
+   * inserted with the ACTIVE status. Imported servers don't publish change events one by one, so
+   * the fleet counts are recounted and the suggested names reloaded once at the end.
+   *
+   * @param body the request body, read as a stream
+   * @param format the format of the payload
+   * @return a summary of the import
+   * @throws IOException if the payload can't be read
+   */
+  public ServerImportSummary importServers(InputStream body, ServerImportFormat format)
+      throws IOException {
+    ImportContext context =
+        new ImportContext(
+            regionService.getIds(), serverTypeService.getIds(), serverStatusService.getActive());
+    List<PendingRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+      long lineNumber = 0;
+      boolean firstRow = true;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        if (firstRow) {
+          firstRow = false;
+          if (format.isHeader(line)) {
+            continue;
+          }
+        }
+
+        context.received++;
+        PendingRow row = parse(lineNumber, line, format, context);
+        if (row == null) {
+          continue;
+        }
+
+        chunk.add(row);
+        if (chunk.size() == CHUNK_SIZE) {
+          importChunk(chunk, context);
+          chunk.clear();
+        }
+      }
+    }
+
+    if (!chunk.isEmpty()) {
+      importChunk(chunk, context);
+    }
+    if (context.imported > 0) {
+      fleetService.reconcile();
+      suggestService.reload();
+    }
+
+    return context.toSummary();
+  }
+
+  private PendingRow parse(
+      long lineNumber, String line, ServerImportFormat format, ImportContext context) {
+    ServerRegisterInput input;
+    try {
+      input = format.parse(line, objectMapper);
+    } catch (IOException | IllegalArgumentException e) {
+      context.reject(lineNumber, null, "Malformed row: " + e.getMessage());
+      return null;
+    }
+
+    if (input.name == null || input.name.isBlank()) {
+      context.reject(lineNumber, input.name, "Server name can't be blank");
+      return null;
+    }
+    if (!context.regionIds.contains(input.regionId)) {
+      context.reject(lineNumber, input.name, "Region id " + input.regionId + " not found");
+      return null;
+    }
+    if (!context.typeIds.contains(input.typeId)) {
+      context.reject(lineNumber, input.name, "Server type id " + input.typeId + " not found");
+      return null;
+    }
+
+    return new PendingRow(lineNumber, input);
+  }
+
+  private void importChunk(List<PendingRow> chunk, ImportContext context) {
+    Set<String> taken =
+        new HashSet<>(
+            serverRepository.findExistingNames(
+                chunk.stream().map(row -> row.input().name).toList()));
+
+    List<PendingRow> accepted = new ArrayList<>(chunk.size());
+    for (PendingRow row : chunk) {
+      if (!taken.add(row.input().name)) {
+        context.reject(row.line(), row.input().name, "Server is already registered");
+        continue;
+      }
+      accepted.add(row);
+    }
+
+    if (accepted.isEmpty()) {
+      return;
+    }
+
+    try {
+      insert(accepted, context.activeStatusId);
+      context.imported += accepted.size();
+    } catch (DataAccessException | PersistenceException e) {
+      importOneByOne(accepted, context);
+    }
+  }
+
+  /**
+   * Retries the rows of a chunk whose batch insert failed, each in its own transaction, so only the
+   * offending rows are rejected, e.g. a name registered by a concurrent writer after the chunk's
+   * names were checked.
+   */
+  private void importOneByOne(List<PendingRow> rows, ImportContext context) {
+    for (PendingRow row : rows) {
+      try {
+        insert(List.of(row), context.activeStatusId);
+        context.imported++;
+      } catch (DataIntegrityViolationException e) {
+        context.reject(row.line(), row.input().name, "Server is already registered");
+      } catch (DataAccessException | PersistenceException e) {
+        context.reject(row.line(), row.input().name, "Insert failed");
+      }
+    }
+  }
+
+  private void insert(List<PendingRow> rows, int activeStatusId) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          ServerStatus active = emh.reference(ServerStatus.class, activeStatusId);
+          List<Server> servers =
+              rows.stream()
+                  .map(
+                      row ->
+                          new Server.Builder()
+                              .name(row.input().name)
+                              .status(active)
+                              .type(emh.reference(ServerType.class, row.input().typeId))
+                              .region(emh.reference(Region.class, row.input().regionId))
+                              .build())
+                  .toList();
+          serverRepository.saveAll(servers);
+          emh.flushAndClear();
+        });
+  }
+
+  private record PendingRow(long line, ServerRegisterInput input) {}
+
+  /** Running state of a single import. */
+  private static class ImportContext {
+    private final Set<Integer> regionIds;
+    private final Set<Integer> typeIds;
+    private final int activeStatusId;
+    private final List<ServerImportRowResult> failures = new ArrayList<>();
+    private long received;
+    private long imported;
+    private long rejected;
+
+    ImportContext(Set<Integer> regionIds, Set<Integer> typeIds, int activeStatusId) {
+      this.regionIds = regionIds;
+      this.typeIds = typeIds;
+      this.activeStatusId = activeStatusId;
+    }
+
+    void reject(long line, String name, String error) {
+      rejected++;
+      if (failures.size() < ServerImportSummary.MAX_REPORTED_FAILURES) {
+        failures.add(new ServerImportRowResult(line, name, error));
+      }
+    }
+
+    ServerImportSummary toSummary() {
+      return new ServerImportSummary(
+          received, imported, rejected, List.copyOf(failures), rejected > failures.size());
+    }
+  }
+}
@@ -1,52 +1,235 @@
 package com.dashboard.api.service.server;
 
 import com.dashboard.api.domain.entitymanager.EntityManagerHelper;
+import com.dashboard.api.domain.exception.BadRequestException;
 import com.dashboard.api.domain.region.Region;
 import com.dashboard.api.domain.server.Server;
 import com.dashboard.api.domain.serverstatus.ServerStatus;
 import com.dashboard.api.domain.servertype.ServerType;
+import com.dashboard.api.persistence.jpa.server.ServerFilter;
 import com.dashboard.api.persistence.jpa.server.ServerRepository;
+import com.dashboard.api.persistence.jpa.server.ServerSpecifications;
+import com.dashboard.api.persistence.jpa.server.ServerView;
+import com.dashboard.api.persistence.patch.PatchRepository;
+import com.dashboard.api.persistence.version.DataVersionRepository;
 import com.dashboard.api.service.base.BaseService;
+import com.dashboard.api.service.base.pagination.CursorPage;
+import com.dashboard.api.service.base.pagination.PageCursor;
+import com.dashboard.api.service.base.pagination.PageSort;
+import com.dashboard.api.service.events.ChangeEvent;
+import com.dashboard.api.service.referencedata.ReferenceDataCache;
+import com.dashboard.api.service.server.dto.ServerPatchInput;
 import com.dashboard.api.service.server.dto.ServerPresenter;
 import com.dashboard.api.service.server.dto.ServerRegisterInput;
 import com.dashboard.api.service.serverstatus.ServerStatusService;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.OptimisticLockException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service class to manage Server entities. Implements CRUD operations and business logic related to
  * servers.
  */
 @Service
+@Observed(name = "dashboard.service")
 public class ServerService extends BaseService<Server, ServerPresenter, ServerRegisterInput> {
 
   private final ServerRepository serverRepository;
   private final ServerStatusService serverStatusService;
+  private final DataVersionRepository dataVersionRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final PatchRepository patchRepository;
+  private final ReferenceDataCache referenceDataCache;
 
   /**
    * Constructs the ServerService with required repositories and services.
    *
    * @param serverRepository the repository for Server entities
    * @param serverStatusService the service for Server status management
+   * @param dataVersionRepository the repository reading the version stamps used as ETags
+   * @param eventPublisher the publisher of the {@link ChangeEvent}s pushed to {@code /events}
+   * @param patchRepository the repository running partial updates
+   * @param referenceDataCache cache of the reference tables, used to validate and name ids
    */
   public ServerService(
       EntityManagerHelper entityManagerHelper,
       ServerRepository serverRepository,
-      ServerStatusService serverStatusService) {
+      ServerStatusService serverStatusService,
+      DataVersionRepository dataVersionRepository,
+      ApplicationEventPublisher eventPublisher,
+      PatchRepository patchRepository,
+      ReferenceDataCache referenceDataCache) {
     super(entityManagerHelper);
     this.serverRepository = serverRepository;
     this.serverStatusService = serverStatusService;
+    this.dataVersionRepository = dataVersionRepository;
+    this.eventPublisher = eventPublisher;
+    this.patchRepository = patchRepository;
+    this.referenceDataCache = referenceDataCache;
   }
 
   /**
-   * Retrieves all Server entities.
+   * Returns the ETag of the server listing. It changes whenever a server is added, changed or
+   * removed, and is computed with one aggregate query, without loading any entity.
    *
-   * @return a list of all servers
+   * @return the ETag of every page of the listing
    */
-  public List<Server> getAll() {
-    return serverRepository.findAll();
+  public String getListETag() {
+    return "servers-" + dataVersionRepository.serversVersion();
+  }
+
+  /**
+   * Returns the ETag of a server, computed without loading the entity.
+   *
+   * @param id the server id
+   * @return the ETag, or empty if the server doesn't exist
+   */
+  public Optional<String> getETag(Long id) {
+    return dataVersionRepository.serverVersion(id).map(version -> "server-" + id + "-" + version);
+  }
+
+  /**
+   * Streams every server, ordered by id, to the given consumer.
+   *
+   * <p>Rows are read through a server-side cursor, so the whole catalog is never held in memory.
+   * The consumer is called while the read-only transaction is still open.
+   *
+   * @param consumer the consumer receiving each server presenter
+   */
+  @Transactional(readOnly = true)
+  public void forEachServer(Consumer<ServerPresenter> consumer) {
+    try (Stream<ServerView> views = serverRepository.streamAllViews()) {
+      views.map(ServerPresenter::from).forEach(consumer);
+    }
+  }
+
+  /**
+   * Retrieves a page of servers using keyset pagination.
+   *
+   * <p>Only {@code limit + 1} rows are read from the database, so the cost of a page doesn't
+   * depend on the size of the table nor on how deep the client has paged.
+   *
+   * @param after the cursor returned by the previous page, or {@code null} for the first page
+   * @param limit the maximum number of servers to return
+   * @param sort the sort key of the listing
+   * @return the requested page of servers
+   * @throws BadRequestException if the cursor is malformed or was issued for another sort
+   */
+  public CursorPage<ServerPresenter> getPage(String after, int limit, PageSort sort)
+      throws BadRequestException {
+    int size = CursorPage.clampLimit(limit);
+    Pageable window = PageRequest.of(0, size + 1);
+    PageCursor cursor = after == null || after.isBlank() ? null : PageCursor.decode(after, sort);
+
+    List<ServerView> rows =
+        switch (sort) {
+          case NAME ->
+              cursor == null
+                  ? serverRepository.findPageOrderByName(window)
+                  : serverRepository.findPageAfterName(cursor.key(), cursor.id(), window);
+          case UPDATED_AT ->
+              cursor == null
+                  ? serverRepository.findPageOrderByUpdatedAt(window)
+                  : serverRepository.findPageAfterUpdatedAt(
+                      cursor.instantKey(), cursor.id(), window);
+          case CREATED_AT ->
+              cursor == null
+                  ? serverRepository.findPageOrderByCreatedAt(window)
+                  : serverRepository.findPageAfterCreatedAt(
+                      cursor.instantKey(), cursor.id(), window);
+        };
+
+    return CursorPage.of(
+            rows, size, view -> PageCursor.encode(sort, sortKey(view, sort), view.id()))
+        .map(ServerPresenter::from);
+  }
+
+  private static String sortKey(ServerView view, PageSort sort) {
+    return switch (sort) {
+      case NAME -> view.name();
+      case UPDATED_AT -> view.updatedAt().toString();
+      case CREATED_AT -> view.createdAt().toString();
+    };
+  }
+
+  /**
+   * Lists the servers matching a filter one page at a time, with the same sorts and cursors as
+   * {@link #getPage}. The filter, the keyset condition and the sort are combined into one query,
+   * which also fetches each server's region, type and status.
+   *
+   * @param filter the criteria the servers must match
+   * @param after the {@code nextCursor} of the previous page, or {@code null} for the first page
+   * @param limit the page size, clamped to {@code [1, CursorPage.MAX_LIMIT]}
+   * @param sort the sort key
+   * @return the requested page of matching servers
+   * @throws BadRequestException if the cursor is malformed or was issued for another sort
+   */
+  public CursorPage<ServerPresenter> getFilteredPage(
+      ServerFilter filter, String after, int limit, PageSort sort)
+      throws BadRequestException {
+    int size = CursorPage.clampLimit(limit);
+    PageCursor cursor = after == null || after.isBlank() ? null : PageCursor.decode(after, sort);
+
+    Specification<Server> specification = ServerSpecifications.matching(filter);
+    if (cursor != null) {
+      specification =
+          specification.and(
+              switch (sort) {
+                case NAME -> ServerSpecifications.nameAfter(cursor.key(), cursor.id());
+                case UPDATED_AT ->
+                    ServerSpecifications.before("updatedAt", cursor.instantKey(), cursor.id());
+                case CREATED_AT ->
+                    ServerSpecifications.before("createdAt", cursor.instantKey(), cursor.id());
+              });
+    }
+
+    List<Server> rows =
+        serverRepository.findBy(
+            specification,
+            query ->
+                query
+                    .sortBy(order(sort))
+                    .limit(size + 1)
+                    .project("region", "serverType", "status")
+                    .all());
+
+    return CursorPage.of(
+            rows, size, server -> PageCursor.encode(sort, sortKey(server, sort), server.getId()))
+        .map(ServerPresenter::from);
+  }
+
+  private static Sort order(PageSort sort) {
+    return switch (sort) {
+      case NAME -> Sort.by("name", "id");
+      case UPDATED_AT -> Sort.by(Sort.Direction.DESC, "updatedAt", "id");
+      case CREATED_AT -> Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    };
+  }
+
+  private static String sortKey(Server server, PageSort sort) {
+    return switch (sort) {
+      case NAME -> server.getName();
+      case UPDATED_AT -> server.getUpdatedAt().toString();
+      case CREATED_AT -> server.getCreatedAt().toString();
+    };
   }
 
   /**
@@ -57,21 +240,21 @@ public class ServerService extends BaseService<Server, ServerPresenter, ServerRe
    * @throws EntityNotFoundException if no server with the specified ID exists
    */
   public ServerPresenter get(Long id) throws EntityNotFoundException {
-    Server server =
+    ServerView view =
         serverRepository
-            .findById(id)
+            .findViewById(id)
             .orElseThrow(() -> new EntityNotFoundException("Server not found"));
-    return ServerPresenter.from(server);
+    return ServerPresenter.from(view);
   }
 
   /**
-   * Retrieves a list of Server entities by their IDs.
+   * Retrieves a list of servers by their IDs, read in a single joined query.
    *
    * @param ids list of server IDs to fetch
-   * @return list of Server entities matching the IDs
+   * @return list of server presenters matching the IDs
    */
-  public List<Server> getMany(List<Long> ids) {
-    return serverRepository.findAllById(ids);
+  public List<ServerPresenter> getMany(List<Long> ids) {
+    return ServerPresenter.fromViews(serverRepository.findViewsByIdIn(ids));
   }
 
   /**
@@ -95,7 +278,9 @@ public class ServerService extends BaseService<Server, ServerPresenter, ServerRe
     Server server =
         new Server.Builder().name(input.name).status(status).type(type).region(region).build();
 
-    return serverRepository.save(server);
+    Server saved = serverRepository.save(server);
+    eventPublisher.publishEvent(ChangeEvent.serverRegistered(ServerPresenter.from(saved)));
+    return saved;
   }
 
   /**
@@ -103,12 +288,12 @@ public class ServerService extends BaseService<Server, ServerPresenter, ServerRe
    *
    * @param input the server registration input DTO containing updated data
    * @return the updated Server entity
-   * @throws IllegalArgumentException if the input ID is missing
+   * @throws BadRequestException if the input ID is missing
    * @throws EntityNotFoundException if the server to update cannot be found
    */
-  public Server update(ServerRegisterInput input) throws IllegalArgumentException {
+  public Server update(ServerRegisterInput input) throws BadRequestException {
     if (input.id.isEmpty()) {
-      throw new IllegalArgumentException("id is required!");
+      throw new BadRequestException("id is required!");
     }
 
     Server server =
@@ -120,8 +305,94 @@ public class ServerService extends BaseService<Server, ServerPresenter, ServerRe
     ServerType type = emh.reference(ServerType.class, input.typeId);
     Region region = emh.reference(Region.class, input.regionId);
 
+    ServerPresenter previous = ServerPresenter.from(server);
     server.update(input.name, status, type, region);
-    return serverRepository.save(server);
+    Server saved = serverRepository.save(server);
+    eventPublisher.publishEvent(
+        ChangeEvent.server(ChangeEvent.Action.UPDATED, previous, ServerPresenter.from(saved)));
+    return saved;
+  }
+
+  /**
+   * Changes only the given fields of a server, without loading the entity.
+   *
+   * <p>The server's flat projection is read to check the version and to publish the change, then a
+   * single UPDATE writes the given columns, as long as the version is still the one the client
+   * read. Ids are checked against the cached reference tables rather than the database.
+   *
+   * @param input the fields to change, with the id and version of the server
+   * @return the server after the change
+   * @throws BadRequestException if the id or version is missing, or the name is blank
+   * @throws EntityNotFoundException if the server, region, type or status doesn't exist
+   * @throws EntityExistsException if another server already has the new name
+   * @throws OptimisticLockException if the server changed since the client read its version
+   */
+  @Transactional
+  public ServerPresenter patch(ServerPatchInput input)
+      throws BadRequestException,
+          EntityNotFoundException,
+          EntityExistsException,
+          OptimisticLockException {
+    if (input.id() == null) {
+      throw new BadRequestException("id is required!");
+    }
+    if (input.version() == null) {
+      throw new BadRequestException("version is required!");
+    }
+    if (input.name() != null && input.name().isBlank()) {
+      throw new BadRequestException("Server name can't be blank");
+    }
+
+    ServerView view =
+        serverRepository
+            .findViewById(input.id())
+            .orElseThrow(() -> new EntityNotFoundException("Can't find specified server."));
+    if (view.version() != input.version()) {
+      throw new OptimisticLockException("Server was changed since it was read, reload it.");
+    }
+    if (input.name() != null
+        && !input.name().equals(view.name())
+        && serverRepository.existsByName(input.name())) {
+      throw new EntityExistsException("Server is already registered");
+    }
+
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    ServerView patched =
+        new ServerView(
+            view.id(),
+            Objects.requireNonNullElse(input.name(), view.name()),
+            Objects.requireNonNullElse(input.active(), view.active()),
+            input.typeId() == null
+                ? view.typeName()
+                : referenceDataCache.serverTypeName(input.typeId()),
+            input.statusId() == null
+                ? view.statusName()
+                : referenceDataCache.serverStatusName(input.statusId()),
+            input.regionId() == null
+                ? view.regionName()
+                : referenceDataCache.regionName(input.regionId()),
+            view.createdAt(),
+            now,
+            view.version() + 1);
+
+    boolean updated =
+        patchRepository.patchServer(
+            view.id(),
+            view.version(),
+            now,
+            input.name(),
+            input.regionId(),
+            input.typeId(),
+            input.statusId(),
+            input.active());
+    if (!updated) {
+      throw new OptimisticLockException("Server was changed since it was read, reload it.");
+    }
+
+    ServerPresenter presenter = ServerPresenter.from(patched);
+    eventPublisher.publishEvent(
+        ChangeEvent.server(ChangeEvent.Action.UPDATED, ServerPresenter.from(view), presenter));
+    return presenter;
   }
 
   /**
@@ -131,7 +402,14 @@ public class ServerService extends BaseService<Server, ServerPresenter, ServerRe
    * @return a confirmation message
    */
   public String delete(Long id) throws IllegalArgumentException {
-    serverRepository.deleteById(id);
+    serverRepository
+        .findById(id)
+        .ifPresent(
+            server -> {
+              ServerPresenter previous = ServerPresenter.from(server);
+              serverRepository.delete(server);
+              eventPublisher.publishEvent(ChangeEvent.serverDeleted(previous));
+            });
     return "Deleted successfully";
   }
 
@@ -148,13 +426,32 @@ public class ServerService extends BaseService<Server, ServerPresenter, ServerRe
             .findById(id)
             .orElseThrow(() -> new EntityNotFoundException("Can't find specified server."));
 
+    ServerPresenter previous = ServerPresenter.from(server);
     server.deactivate();
     serverRepository.save(server);
 
-    return ServerPresenter.from(server);
+    ServerPresenter presenter = ServerPresenter.from(server);
+    eventPublisher.publishEvent(
+        ChangeEvent.server(ChangeEvent.Action.DEACTIVATED, previous, presenter));
+    return presenter;
   }
 
   public boolean existsById(Long id) {
     return serverRepository.existsById(id);
   }
+
+  /**
+   * Returns which of the given server IDs don't exist, using a single query.
+   *
+   * @param ids the server IDs to check
+   * @return the IDs with no matching server, in the order they were given
+   */
+  public List<Long> findMissingIds(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    Set<Long> existing = new HashSet<>(serverRepository.findExistingIds(ids));
+    return ids.stream().filter(id -> !existing.contains(id)).toList();
+  }
 }
@@ -0,0 +1,10 @@
+package com.dashboard.api.service.server.dto;
+
+/**
+ * Outcome of a single rejected row of a bulk server import.
+ *
+ * @param line the 1-based line number of the row in the payload
+ * @param name the server name of the row, or {@code null} if it couldn't be read
+ * @param error why the row was rejected
+ */
+public record ServerImportRowResult(long line, String name, String error) {}
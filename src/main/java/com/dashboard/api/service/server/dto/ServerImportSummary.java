@@ -0,0 +1,25 @@
+package com.dashboard.api.service.server.dto;
+
+import java.util.List;
+
+/**
+ * Result of a bulk server import.
+ *
+ * <p>Only rejected rows are listed individually, and at most {@code MAX_REPORTED_FAILURES} of
+ * them, so the summary stays small however large the payload is. Every row not listed was
+ * imported unless {@code failuresTruncated} is set.
+ *
+ * @param received the number of non-blank data rows read
+ * @param imported the number of servers inserted
+ * @param rejected the number of rows rejected
+ * @param failures the rejected rows, in payload order
+ * @param failuresTruncated whether more rows were rejected than are listed
+ */
+public record ServerImportSummary(
+    long received,
+    long imported,
+    long rejected,
+    List<ServerImportRowResult> failures,
+    boolean failuresTruncated) {
+  public static final int MAX_REPORTED_FAILURES = 1000;
+}
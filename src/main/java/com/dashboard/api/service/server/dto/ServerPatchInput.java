@@ -0,0 +1,22 @@
+package com.dashboard.api.service.server.dto;
+
+/**
+ * Data transfer object for a partial update of a server. Fields left {@code null} keep their
+ * current value.
+ *
+ * @param id the id of the server to update
+ * @param version the {@code version} of the server the change is based on
+ * @param name the new name
+ * @param regionId the id of the new region
+ * @param typeId the id of the new server type
+ * @param statusId the id of the new server status
+ * @param active the new active flag
+ */
+public record ServerPatchInput(
+    Long id,
+    Long version,
+    String name,
+    Integer regionId,
+    Integer typeId,
+    Integer statusId,
+    Boolean active) {}
@@ -2,6 +2,7 @@ package com.dashboard.api.service.server.dto;
 
 import com.dashboard.api.domain.server.Server;
 import com.dashboard.api.domain.servertype.dto.ServerTypePresenter;
+import com.dashboard.api.persistence.jpa.server.ServerView;
 import com.dashboard.api.service.region.dto.RegionPresenter;
 import com.dashboard.api.service.serverstatus.dto.ServerStatusPresenter;
 import java.util.List;
@@ -20,6 +21,7 @@ public class ServerPresenter {
   public ServerTypePresenter type;
   public ServerStatusPresenter status;
   public RegionPresenter region;
+  public long version;
 
   /**
    * Constructs a {@code ServerPresenter} with all required fields.
@@ -30,6 +32,7 @@ public class ServerPresenter {
    * @param type the server's type as a {@link ServerTypePresenter}
    * @param status the server's status as a {@link ServerStatusPresenter}
    * @param region the region where the server is located as a {@link RegionPresenter}
+   * @param version the version to send back with a partial update
    */
   public ServerPresenter(
       Long id,
@@ -37,13 +40,15 @@ public class ServerPresenter {
       boolean active,
       ServerTypePresenter type,
       ServerStatusPresenter status,
-      RegionPresenter region) {
+      RegionPresenter region,
+      long version) {
     this.id = id;
     this.name = name;
     this.active = active;
     this.type = type;
     this.status = status;
     this.region = region;
+    this.version = version;
   }
 
   /**
@@ -59,7 +64,25 @@ public class ServerPresenter {
         server.isActive(),
         ServerTypePresenter.from(server.getServerType()),
         ServerStatusPresenter.from(server.getStatus()),
-        RegionPresenter.from(server.getRegion()));
+        RegionPresenter.from(server.getRegion()),
+        server.getVersion());
+  }
+
+  /**
+   * Maps a {@link ServerView} projection to a {@code ServerPresenter}.
+   *
+   * @param view the flat server projection to transform
+   * @return a {@code ServerPresenter} representing the server
+   */
+  public static ServerPresenter from(ServerView view) {
+    return new ServerPresenter(
+        view.id(),
+        view.name(),
+        view.active(),
+        new ServerTypePresenter(view.typeName()),
+        new ServerStatusPresenter(view.statusName()),
+        new RegionPresenter(view.regionName()),
+        view.version());
   }
 
   /**
@@ -71,4 +94,14 @@ public class ServerPresenter {
   public static List<ServerPresenter> fromMany(List<Server> servers) {
     return servers.stream().map(ServerPresenter::from).collect(Collectors.toList());
   }
+
+  /**
+   * Maps a list of {@link ServerView} projections to a list of {@code ServerPresenter} DTOs.
+   *
+   * @param views the list of server projections to transform
+   * @return a list of {@code ServerPresenter} objects
+   */
+  public static List<ServerPresenter> fromViews(List<ServerView> views) {
+    return views.stream().map(ServerPresenter::from).collect(Collectors.toList());
+  }
 }
@@ -2,8 +2,8 @@ package com.dashboard.api.service.serverstatus;
 
 import com.dashboard.api.domain.serverstatus.ServerStatus;
 import com.dashboard.api.persistence.jpa.serverstatus.ServerStatusRepository;
+import com.dashboard.api.service.referencedata.ReferenceDataCache;
 import jakarta.persistence.EntityNotFoundException;
-import java.util.Optional;
 import org.springframework.stereotype.Service;
 
 /**
@@ -13,19 +13,16 @@ import org.springframework.stereotype.Service;
 @Service
 public class ServerStatusService {
   private final ServerStatusRepository serverStatusRepository;
+  private final ReferenceDataCache referenceDataCache;
 
-  public ServerStatusService(ServerStatusRepository serverStatusRepository) {
+  public ServerStatusService(
+      ServerStatusRepository serverStatusRepository, ReferenceDataCache referenceDataCache) {
     this.serverStatusRepository = serverStatusRepository;
+    this.referenceDataCache = referenceDataCache;
   }
 
   private int getIdByName(String name) throws EntityNotFoundException {
-    Optional<Integer> status = serverStatusRepository.findIdByName(name);
-
-    if (status.isEmpty()) {
-      throw new EntityNotFoundException("Specified server status not found");
-    }
-
-    return status.get();
+    return referenceDataCache.serverStatusId(name);
   }
 
   /**
@@ -2,8 +2,10 @@ package com.dashboard.api.service.servertype;
 
 import com.dashboard.api.domain.servertype.ServerType;
 import com.dashboard.api.persistence.jpa.servertypes.ServerTypeRepository;
+import com.dashboard.api.service.referencedata.ReferenceDataCache;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 
 /**
@@ -16,14 +18,18 @@ import org.springframework.stereotype.Service;
 public class ServerTypeService {
 
   private final ServerTypeRepository serverTypeRepository;
+  private final ReferenceDataCache referenceDataCache;
 
   /**
    * Constructs a new {@code ServerTypeService} with the given repository.
    *
    * @param serverTypeRepository repository for accessing {@link ServerType} entities
+   * @param referenceDataCache cache of the reference tables, used for id lookups
    */
-  public ServerTypeService(ServerTypeRepository serverTypeRepository) {
+  public ServerTypeService(
+      ServerTypeRepository serverTypeRepository, ReferenceDataCache referenceDataCache) {
     this.serverTypeRepository = serverTypeRepository;
+    this.referenceDataCache = referenceDataCache;
   }
 
   /**
@@ -85,4 +91,13 @@ public class ServerTypeService {
   public ServerType getDevelopment() {
     return getByName(ServerType.DEVELOPMENT);
   }
+
+  /**
+   * Retrieves the IDs of every {@link ServerType}, from the reference data cache.
+   *
+   * @return the set of existing server type IDs
+   */
+  public Set<Integer> getIds() {
+    return referenceDataCache.current().serverTypes().ids();
+  }
 }
@@ -0,0 +1,305 @@
+package com.dashboard.api.service.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable index answering "the most recently updated names starting with a prefix".
+ *
+ * <p>Names are kept sorted case-insensitively in parallel arrays, so the names starting with a
+ * prefix are the contiguous range found by two binary searches. To avoid scanning that range,
+ * which is the whole index for a one-letter prefix, the arrays are split into leaves of {@link
+ * #LEAF_SIZE} entries under a segment tree whose every node holds the positions of the {@code
+ * topK} most recent entries below it. A query takes the lists of the O(log n) nodes covering the
+ * range, scans at most two partial leaves, and skips every node whose most recent entry can't make
+ * the result.
+ *
+ * <p>Changes don't touch the arrays: {@link #with} returns a new index sharing them, with the
+ * changed entry recorded in a small overlay that hides its old version. Nodes whose list holds a
+ * hidden entry are answered from their children instead. Once the overlay reaches {@link
+ * #MAX_OVERLAY} entries it's merged into new arrays, which is linear in the size of the index.
+ */
+final class PrefixIndex {
+  static final int LEAF_SIZE = 32;
+  static final int MAX_OVERLAY = 256;
+
+  /**
+   * An indexed name.
+   *
+   * @param id the id of the entity
+   * @param name the name of the entity, or {@code null} in the overlay once it's deleted
+   * @param recency when the entity was last updated, in epoch milliseconds
+   */
+  record Entry(long id, String name, long recency) {}
+
+  private static final Comparator<String> NAME_ORDER = String.CASE_INSENSITIVE_ORDER;
+  private static final Comparator<Entry> ENTRY_ORDER =
+      Comparator.comparing(Entry::name, NAME_ORDER).thenComparingLong(Entry::id);
+  private static final Comparator<Entry> RECENCY_ORDER =
+      Comparator.comparingLong(Entry::recency).thenComparingLong(Entry::id).reversed();
+
+  private final int topK;
+  private final long[] ids;
+  private final String[] names;
+  private final long[] recencies;
+  private final int leaves;
+  private final int[][] tops;
+  private final Map<Long, Entry> overlay;
+
+  private PrefixIndex(int topK, long[] ids, String[] names, long[] recencies) {
+    this.topK = topK;
+    this.ids = ids;
+    this.names = names;
+    this.recencies = recencies;
+    this.overlay = Map.of();
+
+    int leafCount = Math.max(1, (ids.length + LEAF_SIZE - 1) / LEAF_SIZE);
+    this.leaves = leafCount == 1 ? 1 : Integer.highestOneBit(leafCount - 1) << 1;
+    this.tops = new int[2 * leaves][];
+    for (int leaf = 0; leaf < leaves; leaf++) {
+      int from = Math.min(ids.length, leaf * LEAF_SIZE);
+      int to = Math.min(ids.length, from + LEAF_SIZE);
+      tops[leaves + leaf] = leafTop(from, to);
+    }
+    for (int node = leaves - 1; node > 0; node--) {
+      tops[node] = mergeTops(tops[2 * node], tops[2 * node + 1]);
+    }
+  }
+
+  private PrefixIndex(PrefixIndex base, Map<Long, Entry> overlay) {
+    this.topK = base.topK;
+    this.ids = base.ids;
+    this.names = base.names;
+    this.recencies = base.recencies;
+    this.leaves = base.leaves;
+    this.tops = base.tops;
+    this.overlay = overlay;
+  }
+
+  /**
+   * Builds an index.
+   *
+   * @param topK the largest number of suggestions a query can ask for
+   * @param entries the names to index
+   * @return the index
+   */
+  static PrefixIndex of(int topK, Collection<Entry> entries) {
+    Entry[] sorted = entries.toArray(Entry[]::new);
+    Arrays.sort(sorted, ENTRY_ORDER);
+    return fromSorted(topK, Arrays.asList(sorted));
+  }
+
+  /**
+   * Returns an index with an entity added, renamed, touched or removed.
+   *
+   * @param id the id of the entity
+   * @param current the entity after the change, or {@code null} if it was deleted
+   * @return the changed index
+   */
+  PrefixIndex with(long id, Entry current) {
+    Map<Long, Entry> next = new HashMap<>(overlay);
+    next.put(id, current != null ? current : new Entry(id, null, 0));
+    if (next.size() >= MAX_OVERLAY) {
+      return compact(next);
+    }
+    return new PrefixIndex(this, Map.copyOf(next));
+  }
+
+  /**
+   * Returns the most recently updated entries whose name starts with a prefix, ignoring case.
+   *
+   * @param prefix the prefix; empty matches every entry
+   * @param limit the maximum number of entries, at most {@code topK}
+   * @return the matching entries, most recent first
+   */
+  List<Entry> suggest(String prefix, int limit) {
+    if (limit <= 0) {
+      return List.of();
+    }
+    limit = Math.min(limit, topK);
+
+    PriorityQueue<Entry> best = new PriorityQueue<>(limit + 1, RECENCY_ORDER.reversed());
+    int from = lowerBound(prefix);
+    int to = prefix.isEmpty() ? ids.length : lowerBound(prefix + Character.MAX_VALUE);
+    if (from < to) {
+      collect(1, 0, leaves * LEAF_SIZE, from, to, best, limit);
+    }
+    for (Entry entry : overlay.values()) {
+      if (entry.name() != null && entry.name().regionMatches(true, 0, prefix, 0, prefix.length())) {
+        offer(best, limit, entry);
+      }
+    }
+
+    List<Entry> result = new ArrayList<>(best);
+    result.sort(RECENCY_ORDER);
+    return result;
+  }
+
+  private void collect(
+      int node, int nodeFrom, int nodeTo, int from, int to, PriorityQueue<Entry> best, int limit) {
+    int[] top = tops[node];
+    if (nodeFrom >= to || nodeTo <= from || top.length == 0) {
+      return;
+    }
+    if (best.size() == limit && !better(top[0], best.peek())) {
+      return;
+    }
+
+    boolean covered = from <= nodeFrom && nodeTo <= to;
+    if (covered && !hidesAny(top)) {
+      for (int position : top) {
+        offer(best, limit, entryAt(position));
+      }
+    } else if (node >= leaves) {
+      int end = Math.min(Math.min(to, nodeTo), ids.length);
+      for (int position = Math.max(from, nodeFrom); position < end; position++) {
+        if (!overlay.containsKey(ids[position])) {
+          offer(best, limit, entryAt(position));
+        }
+      }
+    } else {
+      int middle = (nodeFrom + nodeTo) >>> 1;
+      collect(2 * node, nodeFrom, middle, from, to, best, limit);
+      collect(2 * node + 1, middle, nodeTo, from, to, best, limit);
+    }
+  }
+
+  private boolean hidesAny(int[] positions) {
+    if (overlay.isEmpty()) {
+      return false;
+    }
+    for (int position : positions) {
+      if (overlay.containsKey(ids[position])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean better(int position, Entry entry) {
+    return RECENCY_ORDER.compare(entryAt(position), entry) < 0;
+  }
+
+  private static void offer(PriorityQueue<Entry> best, int limit, Entry entry) {
+    if (best.size() < limit) {
+      best.add(entry);
+    } else if (RECENCY_ORDER.compare(entry, best.peek()) < 0) {
+      best.poll();
+      best.add(entry);
+    }
+  }
+
+  private Entry entryAt(int position) {
+    return new Entry(ids[position], names[position], recencies[position]);
+  }
+
+  private int compareRecency(int a, int b) {
+    int byRecency = Long.compare(recencies[b], recencies[a]);
+    return byRecency != 0 ? byRecency : Long.compare(ids[b], ids[a]);
+  }
+
+  /** Sorts the positions of a leaf by recency, by insertion as leaves are small. */
+  private int[] leafTop(int from, int to) {
+    int[] sorted = new int[to - from];
+    for (int position = from; position < to; position++) {
+      int i = position - from;
+      while (i > 0 && compareRecency(sorted[i - 1], position) > 0) {
+        sorted[i] = sorted[i - 1];
+        i--;
+      }
+      sorted[i] = position;
+    }
+    return sorted.length > topK ? Arrays.copyOf(sorted, topK) : sorted;
+  }
+
+  private int[] mergeTops(int[] left, int[] right) {
+    int[] merged = new int[Math.min(topK, left.length + right.length)];
+    int l = 0;
+    int r = 0;
+    for (int i = 0; i < merged.length; i++) {
+      if (r == right.length || (l < left.length && compareRecency(left[l], right[r]) <= 0)) {
+        merged[i] = left[l++];
+      } else {
+        merged[i] = right[r++];
+      }
+    }
+    return merged;
+  }
+
+  /** Returns the first position whose name isn't before {@code key}, ignoring case. */
+  private int lowerBound(String key) {
+    int low = 0;
+    int high = names.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (NAME_ORDER.compare(names[middle], key) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /** Merges the live overlay entries into the arrays, dropping the entries they hide. */
+  private PrefixIndex compact(Map<Long, Entry> changes) {
+    List<Entry> changed =
+        changes.values().stream()
+            .filter(entry -> entry.name() != null)
+            .sorted(ENTRY_ORDER)
+            .toList();
+    long[] changedIds = changes.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+    int capacity = ids.length + changed.size();
+    long[] mergedIds = new long[capacity];
+    String[] mergedNames = new String[capacity];
+    long[] mergedRecencies = new long[capacity];
+    int size = 0;
+    int next = 0;
+    for (int position = 0; position <= ids.length; position++) {
+      if (position < ids.length && Arrays.binarySearch(changedIds, ids[position]) >= 0) {
+        continue;
+      }
+      while (next < changed.size()
+          && (position == ids.length || compareTo(changed.get(next), position) < 0)) {
+        Entry entry = changed.get(next++);
+        mergedIds[size] = entry.id();
+        mergedNames[size] = entry.name();
+        mergedRecencies[size++] = entry.recency();
+      }
+      if (position < ids.length) {
+        mergedIds[size] = ids[position];
+        mergedNames[size] = names[position];
+        mergedRecencies[size++] = recencies[position];
+      }
+    }
+    return new PrefixIndex(
+        topK,
+        Arrays.copyOf(mergedIds, size),
+        Arrays.copyOf(mergedNames, size),
+        Arrays.copyOf(mergedRecencies, size));
+  }
+
+  private int compareTo(Entry entry, int position) {
+    int byName = NAME_ORDER.compare(entry.name(), names[position]);
+    return byName != 0 ? byName : Long.compare(entry.id(), ids[position]);
+  }
+
+  private static PrefixIndex fromSorted(int topK, List<Entry> sorted) {
+    long[] ids = new long[sorted.size()];
+    String[] names = new String[sorted.size()];
+    long[] recencies = new long[sorted.size()];
+    for (int i = 0; i < ids.length; i++) {
+      Entry entry = sorted.get(i);
+      ids[i] = entry.id();
+      names[i] = entry.name();
+      recencies[i] = entry.recency();
+    }
+    return new PrefixIndex(topK, ids, names, recencies);
+  }
+}
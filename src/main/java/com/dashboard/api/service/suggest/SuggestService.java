@@ -0,0 +1,188 @@
+package com.dashboard.api.service.suggest;
+
+import com.dashboard.api.persistence.jpa.project.ProjectRepository;
+import com.dashboard.api.persistence.jpa.server.ServerRepository;
+import com.dashboard.api.service.events.ChangeEvent;
+import com.dashboard.api.service.project.dto.ProjectPresenter;
+import com.dashboard.api.service.server.dto.ServerPresenter;
+import com.dashboard.api.service.suggest.dto.Suggestion;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service suggesting server and project names for a typed prefix, from memory.
+ *
+ * <p>The names are loaded into a {@link PrefixIndex} per kind once the application is ready, then
+ * kept current by the {@link ChangeEvent}s of the server and project services as their
+ * transactions commit, so a suggestion never touches the database. Every {@code
+ * suggest.reload-interval} the indexes are reloaded, which picks up the writes that don't publish
+ * events (bulk imports, changes made outside the API); changes committed while a reload is reading
+ * are applied again on top of it.
+ *
+ * <p>The indexes have a single writer: events are handed to one platform thread that applies them
+ * in order, so the committing request never waits for another writer nor for the periodic merge of
+ * an index's overlay, which takes a few hundred milliseconds on a million names. Suggestions read
+ * the published indexes and may lag a commit by the time its event spends in that queue.
+ *
+ * <p>Servers are ranked by when they were last changed through the API since the last reload, as
+ * their presenters don't carry {@code updatedAt}; the difference is at most the time between a
+ * commit and its event.
+ */
+@Service
+public class SuggestService {
+  public static final int DEFAULT_LIMIT = 10;
+  public static final int MAX_LIMIT = 20;
+
+  private final ServerRepository serverRepository;
+  private final ProjectRepository projectRepository;
+  private final ReentrantLock reloadLock = new ReentrantLock();
+  private final ExecutorService writer =
+      Executors.newSingleThreadExecutor(Thread.ofPlatform().name("suggest-index").factory());
+
+  private volatile PrefixIndex servers = PrefixIndex.of(MAX_LIMIT, List.of());
+  private volatile PrefixIndex projects = PrefixIndex.of(MAX_LIMIT, List.of());
+
+  /** The events applied since the running reload started reading, only touched by the writer. */
+  private List<ChangeEvent> replay;
+
+  /**
+   * Constructs the SuggestService.
+   *
+   * @param serverRepository the repository the server names are loaded from
+   * @param projectRepository the repository the project names are loaded from
+   */
+  public SuggestService(ServerRepository serverRepository, ProjectRepository projectRepository) {
+    this.serverRepository = serverRepository;
+    this.projectRepository = projectRepository;
+  }
+
+  /**
+   * Suggests servers whose name starts with a prefix.
+   *
+   * @param prefix the typed prefix, matched ignoring case; blank suggests the latest servers
+   * @param limit the number of suggestions, capped at {@link #MAX_LIMIT}
+   * @return the matching servers, most recently updated first
+   */
+  public List<Suggestion> suggestServers(String prefix, int limit) {
+    return suggest(servers, prefix, limit);
+  }
+
+  /**
+   * Suggests projects whose name starts with a prefix.
+   *
+   * @param prefix the typed prefix, matched ignoring case; blank suggests the latest projects
+   * @param limit the number of suggestions, capped at {@link #MAX_LIMIT}
+   * @return the matching projects, most recently updated first
+   */
+  public List<Suggestion> suggestProjects(String prefix, int limit) {
+    return suggest(projects, prefix, limit);
+  }
+
+  /**
+   * Queues a committed change to be applied to the indexes by the writer thread.
+   *
+   * @param event the change
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onChange(ChangeEvent event) {
+    writer.execute(
+        () -> {
+          if (replay != null) {
+            replay.add(event);
+          }
+          apply(event);
+        });
+  }
+
+  /**
+   * Reloads every name from the database. The names are read and indexed on the calling thread;
+   * only the swap and the replay of the changes applied meanwhile run on the writer.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      fixedDelayString = "${suggest.reload-interval:PT10M}",
+      initialDelayString = "${suggest.reload-interval:PT10M}")
+  public void reload() {
+    reloadLock.lock();
+    try {
+      onWriter(() -> replay = new ArrayList<>());
+
+      PrefixIndex loadedServers =
+          PrefixIndex.of(
+              MAX_LIMIT,
+              serverRepository.findAllNames().stream()
+                  .map(view -> entry(view.id(), view.name(), view.updatedAt()))
+                  .toList());
+      PrefixIndex loadedProjects =
+          PrefixIndex.of(
+              MAX_LIMIT,
+              projectRepository.findAllNames().stream()
+                  .map(view -> entry(view.id(), view.name(), view.updatedAt()))
+                  .toList());
+
+      onWriter(
+          () -> {
+            servers = loadedServers;
+            projects = loadedProjects;
+            replay.forEach(this::apply);
+          });
+    } finally {
+      writer.execute(() -> replay = null);
+      reloadLock.unlock();
+    }
+  }
+
+  /** Runs a task on the writer thread after the queued events and waits for it. */
+  private void onWriter(Runnable task) {
+    CompletableFuture.runAsync(task, writer).join();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    writer.shutdownNow();
+  }
+
+  private void apply(ChangeEvent event) {
+    switch (event.resource()) {
+      case SERVER -> {
+        PrefixIndex.Entry current =
+            event.data() instanceof ServerPresenter server
+                ? entry(server.id, server.name, Instant.now())
+                : null;
+        servers = servers.with(event.id(), current);
+      }
+      case PROJECT -> {
+        PrefixIndex.Entry current =
+            event.data() instanceof ProjectPresenter project
+                ? entry(project.id, project.name, project.updatedAt)
+                : null;
+        projects = projects.with(event.id(), current);
+      }
+    }
+  }
+
+  private static List<Suggestion> suggest(PrefixIndex index, String prefix, int limit) {
+    int size = limit < 1 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+    return index.suggest(prefix == null ? "" : prefix.strip(), size).stream()
+        .map(
+            entry ->
+                new Suggestion(entry.id(), entry.name(), Instant.ofEpochMilli(entry.recency())))
+        .toList();
+  }
+
+  private static PrefixIndex.Entry entry(long id, String name, Instant updatedAt) {
+    Instant recency = updatedAt != null ? updatedAt : Instant.now();
+    return new PrefixIndex.Entry(id, name, recency.toEpochMilli());
+  }
+}
@@ -0,0 +1,12 @@
+package com.dashboard.api.service.suggest.dto;
+
+import java.time.Instant;
+
+/**
+ * A name suggested for a typed prefix.
+ *
+ * @param id the id of the server or project
+ * @param name its name
+ * @param updatedAt when it was last changed
+ */
+public record Suggestion(Long id, String name, Instant updatedAt) {}
@@ -10,6 +10,7 @@ import com.dashboard.api.service.user.dto.RegisterRequest;
 import com.dashboard.api.service.user.dto.UpdateUserInput;
 import com.dashboard.api.service.user.dto.UserPresenter;
 import com.dashboard.api.service.user.dto.UserWithTokenPresenter;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
@@ -31,6 +32,7 @@ import org.springframework.stereotype.Service;
  * to perform its operations.
  */
 @Service
+@Observed(name = "dashboard.service")
 public class UserService {
 
   private final UserRepository userRepository;
@@ -82,11 +84,12 @@ public class UserService {
   /**
    * Retrieves the currently authenticated user's data.
    *
+   * <p>Served from the cached user snapshot, so it doesn't query the database on the hot path.
+   *
    * @return a presenter containing the user's information
    */
   public UserPresenter me() {
-    User user = userSession.getLoggedUserInfo();
-    return UserPresenter.from(user);
+    return UserPresenter.from(userSession.getLoggedUserSnapshot());
   }
 
   /**
@@ -151,6 +154,7 @@ public class UserService {
     User user = userSession.getLoggedUserInfo();
     user.update(input.firstName(), input.lastName());
     user = userRepository.save(user);
+    userSession.evict(user.getUsername());
     return UserPresenter.from(user);
   }
 
@@ -163,9 +167,11 @@ public class UserService {
    */
   public UserWithTokenPresenter changeUsername(String username) throws EntityNotFoundException {
     User user = userSession.getLoggedUserInfo();
-    boolean usernameChanged = !user.getUsername().equals(username);
+    String previousUsername = user.getUsername();
+    boolean usernameChanged = !previousUsername.equals(username);
     user.setUsername(username);
     user = userRepository.save(user);
+    userSession.evict(previousUsername);
 
     String token = usernameChanged ? remakeToken(user) : null;
     return new UserWithTokenPresenter(UserPresenter.from(user), token);
@@ -181,6 +187,7 @@ public class UserService {
     String newPassword = passwordEncoder.encode(password);
     user.setPassword(newPassword);
     userRepository.save(user);
+    userSession.evict(user.getUsername());
   }
 
   /**
@@ -192,5 +199,6 @@ public class UserService {
     User user = userSession.getLoggedUserInfo();
     user.setProfilePicture(picUrl);
     userRepository.save(user);
+    userSession.evict(user.getUsername());
   }
 }
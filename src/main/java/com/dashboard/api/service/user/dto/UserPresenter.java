@@ -1,6 +1,7 @@
 package com.dashboard.api.service.user.dto;
 
 import com.dashboard.api.domain.user.User;
+import com.dashboard.api.service.base.session.UserSnapshot;
 
 public class UserPresenter {
   public Long id;
@@ -28,4 +29,9 @@ public class UserPresenter {
         user.getUsername(),
         user.getProfilePicture());
   }
+
+  public static UserPresenter from(UserSnapshot user) {
+    return new UserPresenter(
+        user.id(), user.name(), user.lastName(), user.username(), user.profilePicture());
+  }
 }
@@ -0,0 +1,185 @@
+package com.dashboard.api.application.controllers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.dashboard.api.infrastructure.sql.StatementBudget;
+import com.dashboard.api.infrastructure.sql.StatementBudgetExtension;
+import com.dashboard.api.infrastructure.sql.StatementBudgetFilter;
+import com.dashboard.api.persistence.jpa.project.ProjectRepository;
+import com.dashboard.api.persistence.jpa.server.ServerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(
+    properties = {
+      "security.jwt.issuer=DashboardAPI",
+      "security.jwt.secret-key=test-secret-key-test-secret-key-0123456789",
+      "security.jwt.expiry-time-in-seconds=3600",
+      "seeding.admin.username=admin",
+      "seeding.admin.password=admin",
+      "seeding.user.username=user",
+      "seeding.user.password=user"
+    })
+@AutoConfigureMockMvc
+@ExtendWith(StatementBudgetExtension.class)
+@WithMockUser(roles = "USER")
+class EndpointStatementBudgetTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ServerRepository serverRepository;
+
+  @Autowired private ProjectRepository projectRepository;
+
+  private String serverId;
+
+  private String projectId;
+
+  @BeforeEach
+  void setUp() {
+    serverId = serverRepository.findAllViews().get(0).id().toString();
+    projectId = projectRepository.findAllViews().get(0).id().toString();
+  }
+
+  @Test
+  @StatementBudget(2)
+  void serverPageRunsTwoStatements() throws Exception {
+    mockMvc
+        .perform(get("/server/getAll").param("limit", "500"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(StatementBudgetFilter.STATEMENT_COUNT_HEADER, "2"));
+  }
+
+  @Test
+  @StatementBudget(2)
+  void serverRunsTwoStatements() throws Exception {
+    mockMvc.perform(get("/server/get").param("id", serverId)).andExpect(status().isOk());
+  }
+
+  @Test
+  @StatementBudget(1)
+  void filteredServerPageRunsOneStatement() throws Exception {
+    mockMvc
+        .perform(get("/server/list").param("active", "true").param("limit", "500"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(StatementBudgetFilter.STATEMENT_COUNT_HEADER, "1"));
+  }
+
+  @Test
+  @StatementBudget(2)
+  void serverPatchRunsTwoStatements() throws Exception {
+    long version = serverRepository.findViewById(Long.valueOf(serverId)).orElseThrow().version();
+
+    mockMvc
+        .perform(
+            patch("/server/update")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    "{\"id\": %s, \"version\": %d, \"active\": true}"
+                        .formatted(serverId, version)))
+        .andExpect(status().isOk())
+        .andExpect(header().string(StatementBudgetFilter.STATEMENT_COUNT_HEADER, "2"));
+  }
+
+  @Test
+  void staleServerPatchConflicts() throws Exception {
+    long version = serverRepository.findViewById(Long.valueOf(serverId)).orElseThrow().version();
+
+    mockMvc
+        .perform(
+            patch("/server/update")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    "{\"id\": %s, \"version\": %d, \"active\": true}"
+                        .formatted(serverId, version + 1)))
+        .andExpect(status().isConflict());
+  }
+
+  @Test
+  @StatementBudget(3)
+  void projectPatchRunsThreeStatementsAndKeepsTheServers() throws Exception {
+    long version = projectRepository.findViewById(Long.valueOf(projectId)).orElseThrow().version();
+
+    mockMvc
+        .perform(
+            patch("/project/update")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    "{\"id\": %s, \"version\": %d, \"details\": \"patched\"}"
+                        .formatted(projectId, version)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.servers").isArray())
+        .andExpect(header().string(StatementBudgetFilter.STATEMENT_COUNT_HEADER, "3"));
+  }
+
+  @Test
+  @StatementBudget(3)
+  void projectPageRunsThreeStatements() throws Exception {
+    mockMvc
+        .perform(get("/project/getAll").param("limit", "500").param("time", "absolute"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(StatementBudgetFilter.STATEMENT_COUNT_HEADER, "3"));
+  }
+
+  @Test
+  @StatementBudget(3)
+  void projectRunsThreeStatements() throws Exception {
+    mockMvc.perform(get("/project/get").param("id", projectId)).andExpect(status().isOk());
+  }
+
+  @Test
+  void revalidatedProjectPageOnlyReadsTheVersion() throws Exception {
+    String etag =
+        mockMvc
+            .perform(get("/project/getAll").param("time", "absolute"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(
+            get("/project/getAll")
+                .param("time", "absolute")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag))
+        .andExpect(header().string(StatementBudgetFilter.STATEMENT_COUNT_HEADER, "1"));
+  }
+
+  @Test
+  void relativeProjectPageHasNoETag() throws Exception {
+    mockMvc
+        .perform(get("/project/getAll"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+  }
+
+  @Test
+  void revalidatedServerOnlyReadsTheVersion() throws Exception {
+    String etag =
+        mockMvc
+            .perform(get("/server/get").param("id", serverId))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(get("/server/get").param("id", serverId).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(StatementBudgetFilter.STATEMENT_COUNT_HEADER, "1"));
+  }
+}
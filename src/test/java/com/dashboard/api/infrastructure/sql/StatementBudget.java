@@ -0,0 +1,23 @@
+package com.dashboard.api.infrastructure.sql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the annotated test if it runs more SQL statements than {@link #value()}.
+ *
+ * @see StatementBudgetExtension
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+  /**
+   * The maximum number of statements the test may run.
+   *
+   * @return the budget
+   */
+  int value();
+}
@@ -0,0 +1,53 @@
+package com.dashboard.api.infrastructure.sql;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * JUnit extension enforcing {@link StatementBudget} on Spring tests.
+ *
+ * <p>A counting scope is opened on the test thread right before the body of each annotated test
+ * and closed right after it, so {@code @BeforeEach} set-up isn't counted. Requests made through
+ * MockMvc run on the same thread, so their statements are included. The test fails with the most
+ * repeated statement shapes when the budget is exceeded.
+ */
+public class StatementBudgetExtension
+    implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+  private static final ExtensionContext.Namespace NAMESPACE =
+      ExtensionContext.Namespace.create(StatementBudgetExtension.class);
+
+  @Override
+  public void beforeTestExecution(ExtensionContext context) {
+    if (AnnotationSupport.isAnnotated(context.getRequiredTestMethod(), StatementBudget.class)) {
+      SqlStatementCounter counter =
+          SpringExtension.getApplicationContext(context).getBean(SqlStatementCounter.class);
+      context.getStore(NAMESPACE).put(context.getUniqueId(), counter.open());
+    }
+  }
+
+  @Override
+  public void afterTestExecution(ExtensionContext context) {
+    SqlStatementCounter.Scope scope =
+        context
+            .getStore(NAMESPACE)
+            .remove(context.getUniqueId(), SqlStatementCounter.Scope.class);
+    if (scope == null) {
+      return;
+    }
+    scope.close();
+
+    int budget =
+        AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), StatementBudget.class)
+            .orElseThrow()
+            .value();
+    if (scope.count() > budget) {
+      throw new AssertionError(
+          String.format(
+              "Expected at most %d SQL statements but %d ran. Most repeated:%n%s",
+              budget, scope.count(), scope.describe()));
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.dashboard.api.persistence.jpa.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dashboard.api.domain.region.Region;
+import com.dashboard.api.domain.server.Server;
+import com.dashboard.api.domain.serverstatus.ServerStatus;
+import com.dashboard.api.domain.servertype.ServerType;
+import com.dashboard.api.service.server.dto.ServerPresenter;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ServerRepositoryTest {
+
+  @Autowired private TestEntityManager entityManager;
+  @Autowired private ServerRepository serverRepository;
+
+  private Statistics statistics;
+  private Region region;
+  private ServerType type;
+  private ServerStatus status;
+
+  @BeforeEach
+  void setUp() {
+    statistics =
+        entityManager
+            .getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+
+    region = entityManager.persist(new Region("BRAZIL-01", "SP-01"));
+    type = entityManager.persist(new ServerType(ServerType.PRODUCTION));
+    status = entityManager.persist(new ServerStatus(ServerStatus.ACTIVE));
+  }
+
+  private void seedServers(int from, int to) {
+    for (int i = from; i < to; i++) {
+      entityManager.persist(
+          new Server.Builder()
+              .name(String.format("SERVER-%04d", i))
+              .status(status)
+              .type(type)
+              .region(region)
+              .build());
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  private long statementsFor(Runnable action) {
+    statistics.clear();
+    action.run();
+    return statistics.getPrepareStatementCount();
+  }
+
+  @Test
+  void listingStatementCountIsConstant() {
+    seedServers(0, 10);
+    long small = statementsFor(() -> ServerPresenter.fromViews(serverRepository.findAllViews()));
+
+    seedServers(10, 1000);
+    long large =
+        statementsFor(
+            () -> {
+              List<ServerPresenter> servers =
+                  ServerPresenter.fromViews(serverRepository.findAllViews());
+              assertThat(servers).hasSize(1000);
+              assertThat(servers).allMatch(server -> "BRAZIL-01".equals(server.region.name));
+            });
+
+    assertThat(small).isEqualTo(1);
+    assertThat(large).isEqualTo(small);
+  }
+
+  @Test
+  void pageAndLookupsUseSingleStatement() {
+    seedServers(0, 1000);
+
+    List<Long> ids = new ArrayList<>();
+    long page =
+        statementsFor(
+            () ->
+                serverRepository.findPageOrderByName(PageRequest.of(0, 500)).stream()
+                    .map(ServerView::id)
+                    .forEach(ids::add));
+    long many = statementsFor(() -> serverRepository.findViewsByIdIn(ids));
+
+    assertThat(ids).hasSize(500);
+    assertThat(page).isEqualTo(1);
+    assertThat(many).isEqualTo(1);
+  }
+}
@@ -0,0 +1,145 @@
+package com.dashboard.api.service.suggest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/** Checks {@link PrefixIndex} against a brute-force filter and sort over the same entries. */
+class PrefixIndexTest {
+  private static final int TOP_K = 20;
+  private static final int[] LIMITS = {1, 5, TOP_K, TOP_K + 30};
+  private static final String ALPHABET = "abcABC-0";
+
+  private final Random random = new Random(42);
+
+  @Test
+  void matchesBruteForceOverRandomNames() {
+    Map<Long, PrefixIndex.Entry> entries = randomEntries(3000);
+    PrefixIndex index = PrefixIndex.of(TOP_K, entries.values());
+
+    assertMatches(index, entries, 200);
+  }
+
+  @Test
+  void matchesBruteForceThroughRenamesDeletesAndReAdds() {
+    Map<Long, PrefixIndex.Entry> entries = randomEntries(2000);
+    PrefixIndex index = PrefixIndex.of(TOP_K, entries.values());
+
+    // Enough changes to distinct ids to cross MAX_OVERLAY, and so compact, several times.
+    for (int change = 0; change < 4 * PrefixIndex.MAX_OVERLAY; change++) {
+      long id = random.nextInt(2200);
+      PrefixIndex.Entry current = entries.get(id);
+      int kind = random.nextInt(4);
+      if (current != null && kind == 0) {
+        entries.remove(id);
+        index = index.with(id, null);
+      } else if (current != null && kind == 1) {
+        PrefixIndex.Entry touched = new PrefixIndex.Entry(id, current.name(), randomRecency());
+        entries.put(id, touched);
+        index = index.with(id, touched);
+      } else {
+        PrefixIndex.Entry renamed = new PrefixIndex.Entry(id, randomName(), randomRecency());
+        entries.put(id, renamed);
+        index = index.with(id, renamed);
+      }
+
+      if (change % 16 == 0) {
+        assertMatches(index, entries, 10);
+      }
+    }
+    assertMatches(index, entries, 200);
+  }
+
+  @Test
+  void capsTheLimitAtTopK() {
+    Map<Long, PrefixIndex.Entry> entries = randomEntries(500);
+    PrefixIndex index = PrefixIndex.of(TOP_K, entries.values());
+
+    assertThat(index.suggest("", TOP_K * 5)).hasSize(TOP_K);
+    assertThat(index.suggest("", 0)).isEmpty();
+  }
+
+  @Test
+  void answersFromAnEmptyIndex() {
+    PrefixIndex index = PrefixIndex.of(TOP_K, List.of());
+
+    assertThat(index.suggest("", TOP_K)).isEmpty();
+    assertThat(index.suggest("a", TOP_K)).isEmpty();
+
+    PrefixIndex.Entry added = new PrefixIndex.Entry(1, "Alpha", 10);
+    assertThat(index.with(1, added).suggest("AL", TOP_K)).containsExactly(added);
+  }
+
+  private void assertMatches(PrefixIndex index, Map<Long, PrefixIndex.Entry> entries, int queries) {
+    List<String> names = entries.values().stream().map(PrefixIndex.Entry::name).toList();
+    for (int query = 0; query < queries; query++) {
+      String prefix = randomPrefix(names);
+      for (int limit : LIMITS) {
+        assertThat(index.suggest(prefix, limit))
+            .as("prefix '%s', limit %d", prefix, limit)
+            .containsExactlyElementsOf(bruteForce(entries, prefix, limit));
+      }
+    }
+  }
+
+  private static List<PrefixIndex.Entry> bruteForce(
+      Map<Long, PrefixIndex.Entry> entries, String prefix, int limit) {
+    return entries.values().stream()
+        .filter(entry -> entry.name().regionMatches(true, 0, prefix, 0, prefix.length()))
+        .sorted(
+            Comparator.comparingLong(PrefixIndex.Entry::recency)
+                .thenComparingLong(PrefixIndex.Entry::id)
+                .reversed())
+        .limit(Math.min(limit, TOP_K))
+        .toList();
+  }
+
+  /** An empty prefix, a random one, or the start of an existing name with its case shuffled. */
+  private String randomPrefix(List<String> names) {
+    int kind = random.nextInt(4);
+    if (kind == 0 || names.isEmpty()) {
+      return "";
+    }
+    if (kind == 1) {
+      return randomString(1 + random.nextInt(3));
+    }
+    String name = names.get(random.nextInt(names.size()));
+    int length = 1 + random.nextInt(name.length());
+    StringBuilder prefix = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      char c = name.charAt(i);
+      prefix.append(random.nextBoolean() ? Character.toUpperCase(c) : Character.toLowerCase(c));
+    }
+    return prefix.toString();
+  }
+
+  private Map<Long, PrefixIndex.Entry> randomEntries(int count) {
+    Map<Long, PrefixIndex.Entry> entries = new HashMap<>();
+    for (long id = 0; id < count; id++) {
+      entries.put(id, new PrefixIndex.Entry(id, randomName(), randomRecency()));
+    }
+    return entries;
+  }
+
+  private String randomName() {
+    return randomString(1 + random.nextInt(6));
+  }
+
+  /** Recencies drawn from a small range, so ties broken by id are common. */
+  private long randomRecency() {
+    return random.nextInt(500);
+  }
+
+  private String randomString(int length) {
+    StringBuilder result = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      result.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+    }
+    return result.toString();
+  }
+}